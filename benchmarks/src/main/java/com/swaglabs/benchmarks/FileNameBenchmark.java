@@ -0,0 +1,34 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.utils.WebDriverManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a test display name into a screenshot file name
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileNameBenchmark {
+    @Param({"testLogin", "TC-104: Performance Glitch User Login", "Problem User Login & UI Issues Test (retry 2/3)"})
+    public String testName;
+
+    @Benchmark
+    public String sanitizeFileName() {
+        return WebDriverManager.sanitizeFileName(testName);
+    }
+}
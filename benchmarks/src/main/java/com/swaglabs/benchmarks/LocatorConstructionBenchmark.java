@@ -0,0 +1,53 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.pages.ProductLocators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the product locators used by ProductsPage and CartPage
+ * Compares the cached id-based CSS locators with building a By on every call,
+ * and with the ancestor-axis XPath the pages used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocatorConstructionBenchmark {
+    private static final String XPATH_PATTERN =
+            "//div[text()='%s']/ancestor::div[@class='inventory_item']//button[contains(@id, 'add-to-cart')]";
+
+    public String productName = "Sauce Labs Backpack";
+
+    @Benchmark
+    public By cachedAddToCartButton() {
+        return ProductLocators.addToCartButton(productName);
+    }
+
+    @Benchmark
+    public By cachedRemoveButton() {
+        return ProductLocators.removeButton(productName);
+    }
+
+    @Benchmark
+    public By uncachedCssSelector() {
+        return By.cssSelector("button[id='add-to-cart-" + ProductLocators.slug(productName) + "']");
+    }
+
+    @Benchmark
+    public By formattedXpath() {
+        return By.xpath(String.format(XPATH_PATTERN, productName));
+    }
+}
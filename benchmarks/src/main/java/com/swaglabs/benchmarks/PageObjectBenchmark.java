@@ -0,0 +1,87 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.pages.CartPage;
+import com.swaglabs.pages.CheckoutPage;
+import com.swaglabs.pages.LoginPage;
+import com.swaglabs.pages.ProductsPage;
+import com.swaglabs.utils.WebDriverManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating page objects (BasePage setup plus PageFactory.initElements)
+ * Runs against a stub WebDriver, so only the framework's own work is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageObjectBenchmark {
+
+    @Setup(Level.Trial)
+    public void attachStubDriver() {
+        WebDriverManager.attachDriver(stubDriver());
+    }
+
+    @TearDown(Level.Trial)
+    public void detachStubDriver() {
+        WebDriverManager.quitDriver();
+    }
+
+    /**
+     * A driver that answers every call with null; page constructors never query the browser
+     */
+    private static WebDriver stubDriver() {
+        return (WebDriver) Proxy.newProxyInstance(PageObjectBenchmark.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StubWebDriver";
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Benchmark
+    public LoginPage loginPage() {
+        return new LoginPage();
+    }
+
+    @Benchmark
+    public ProductsPage productsPage() {
+        return new ProductsPage();
+    }
+
+    @Benchmark
+    public CartPage cartPage() {
+        return new CartPage();
+    }
+
+    @Benchmark
+    public CheckoutPage checkoutPage() {
+        return new CheckoutPage();
+    }
+}
@@ -0,0 +1,67 @@
+package com.swaglabs.benchmarks;
+
+import com.swaglabs.enums.UserType;
+import com.swaglabs.utils.TestLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of TestLogger bookkeeping: one logged test (start, steps, end) and rendering the summary
+ * Includes the log file and results journal writes, as paid by every test.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TestLoggerBenchmark {
+    // Test names are cycled so the result maps stay at a realistic size
+    private static final int DISTINCT_TESTS = 50;
+
+    private String[] testNames;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        testNames = new String[DISTINCT_TESTS];
+        for (int i = 0; i < DISTINCT_TESTS; i++) {
+            testNames[i] = "Benchmark Test " + i;
+        }
+        // Fill every user type so the summary has a full report to render
+        for (UserType userType : UserType.values()) {
+            for (String testName : testNames) {
+                logTest(userType, testName);
+            }
+        }
+    }
+
+    private static void logTest(UserType userType, String testName) {
+        TestLogger.logTestStart(userType, testName);
+        TestLogger.logTestStep(userType, "Logging in");
+        TestLogger.logTestStep(userType, "Adding product to cart");
+        TestLogger.logInfo(userType, "Cart count after adding product: 1");
+        TestLogger.logTestEnd(userType, testName, true, "All steps completed successfully");
+    }
+
+    @Benchmark
+    public void logOneTest() {
+        logTest(UserType.STANDARD_USER, testNames[next++ % DISTINCT_TESTS]);
+    }
+
+    @Benchmark
+    public void generateTestSummary() {
+        TestLogger.generateTestSummary();
+    }
+}
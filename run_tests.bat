@@ -11,10 +11,14 @@ REM SET PATH=%JAVA_HOME%\bin;%PATH%
 REM Check for command line arguments
 set HEADLESS=false
 set TEST_CLASS=AllTests
+set PROFILES=
+set PARALLEL=
 
 :PARSE_ARGS
 if "%~1"=="" goto AFTER_ARGS
 if /i "%~1"=="--headless" set HEADLESS=true
+if /i "%~1"=="--async-logs" set PROFILES=-Pasync-logging
+if /i "%~1"=="--parallel" set PARALLEL=-Pparallel
 if /i "%~1"=="--test" set TEST_CLASS=%~2 & shift
 shift
 goto PARSE_ARGS
@@ -23,7 +27,7 @@ goto PARSE_ARGS
 echo Running %TEST_CLASS% tests with headless mode: %HEADLESS%...
 
 REM Run the tests with the specified options
-call mvn clean test -Dtest=%TEST_CLASS% -Dheadless=%HEADLESS%
+call mvn clean test %PROFILES% %PARALLEL% -Dtest=%TEST_CLASS% -Dheadless=%HEADLESS%
 echo.
 
 echo ======================================================
@@ -1,24 +1,122 @@
 package com.swaglabs.pages;
 
+import com.swaglabs.utils.LocatorRegistry;
+import com.swaglabs.utils.TestLogger;
 import com.swaglabs.utils.WebDriverManager;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.AjaxElementLocatorFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public abstract class BasePage {
+    // Explicit wait policy, overridable with -Dwait.timeout (seconds) and -Dwait.polling (milliseconds)
+    protected static final Duration WAIT_TIMEOUT = Duration.ofSeconds(Long.getLong("wait.timeout", 10L));
+    protected static final Duration POLLING_INTERVAL = Duration.ofMillis(Long.getLong("wait.polling", 100L));
+    // One wait shared by all strategies of findWithLearnedStrategy, overridable with -Dlocator.timeout (seconds)
+    protected static final Duration LOCATOR_TIMEOUT = Duration.ofSeconds(Long.getLong("locator.timeout", 5L));
+    // Collect browser timing entries whenever a page object is created, enabled with -Dperf.metrics=true
+    private static final boolean COLLECT_METRICS = Boolean.getBoolean("perf.metrics");
+
+    // Collects every item matching a selector
+    private static final String SNAPSHOT_ITEMS_FUNCTION =
+            "function snapshotItems(itemSelector) {"
+            + "  return Array.prototype.map.call(document.querySelectorAll(itemSelector), function (item) {"
+            + "    function text(selector) {"
+            + "      var element = item.querySelector(selector);"
+            + "      return element ? element.innerText : '';"
+            + "    }"
+            + "    var button = item.querySelector('button');"
+            + "    return {"
+            + "      displayed: item.getClientRects().length > 0"
+            + "        && window.getComputedStyle(item).visibility !== 'hidden',"
+            + "      name: text('.inventory_item_name'),"
+            + "      description: text('.inventory_item_desc'),"
+            + "      price: text('.inventory_item_price'),"
+            + "      quantity: text('.cart_quantity'),"
+            + "      button: button ? button.innerText : ''"
+            + "    };"
+            + "  });"
+            + "}";
+
+    // Reads title, URL, cart badge, form error and (if arguments[0] is not empty) the page's items in one round-trip
+    private static final String PAGE_STATE_SCRIPT =
+            SNAPSHOT_ITEMS_FUNCTION
+            + "var title = document.querySelector('.title');"
+            + "var badge = document.querySelector('.shopping_cart_badge');"
+            + "var error = document.querySelector(\"[data-test='error']\");"
+            + "return {"
+            + "  title: title ? title.innerText : '',"
+            + "  url: window.location.href,"
+            + "  badge: badge ? badge.innerText : '',"
+            + "  error: error ? error.innerText : '',"
+            + "  items: arguments[0] ? snapshotItems(arguments[0]) : []"
+            + "};";
+
+    // Reads Navigation and Paint Timing for a freshly loaded document, plus the Resource Timing
+    // entries recorded since the previous call; the mark survives client-side route changes only
+    private static final String PERFORMANCE_METRICS_SCRIPT =
+            "var mark = window.__perfMetricsMark;"
+            + "window.__perfMetricsMark = performance.now();"
+            + "var since = mark === undefined ? 0 : mark;"
+            + "var result = { url: window.location.href, newDocument: mark === undefined };"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "if (nav && mark === undefined) {"
+            + "  result.navigation = {"
+            + "    ttfbMs: Math.round(nav.responseStart - nav.startTime),"
+            + "    domInteractiveMs: Math.round(nav.domInteractive),"
+            + "    domContentLoadedMs: Math.round(nav.domContentLoadedEventEnd),"
+            + "    loadMs: Math.round(nav.loadEventEnd),"
+            + "    transferSize: nav.transferSize || 0"
+            + "  };"
+            + "  result.paint = {};"
+            + "  performance.getEntriesByType('paint').forEach(function (entry) {"
+            + "    result.paint[entry.name] = Math.round(entry.startTime);"
+            + "  });"
+            + "}"
+            + "var resources = performance.getEntriesByType('resource').filter(function (entry) {"
+            + "  return entry.startTime >= since;"
+            + "});"
+            + "result.resourceCount = resources.length;"
+            + "result.resourceTransferSize = resources.reduce(function (sum, entry) {"
+            + "  return sum + (entry.transferSize || 0);"
+            + "}, 0);"
+            + "result.slowestResources = resources.sort(function (a, b) { return b.duration - a.duration; })"
+            + "  .slice(0, 5).map(function (entry) {"
+            + "    return { name: entry.name, type: entry.initiatorType, durationMs: Math.round(entry.duration) };"
+            + "  });"
+            + "return result;";
+
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private PageState pageState;
 
     public BasePage() {
         this.driver = WebDriverManager.getDriver();
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        PageFactory.initElements(driver, this);
+        this.wait = new WebDriverWait(driver, WAIT_TIMEOUT, POLLING_INTERVAL);
+
+        if (WebDriverManager.getImplicitWait().isZero()) {
+            // Without implicit waits, @FindBy fields wait for their element explicitly instead
+            PageFactory.initElements(new AjaxElementLocatorFactory(driver, (int) WAIT_TIMEOUT.getSeconds()), this);
+        } else {
+            PageFactory.initElements(driver, this);
+        }
+
+        if (COLLECT_METRICS) {
+            collectPerformanceMetrics();
+        }
     }
 
     protected WebElement waitForElementVisible(By locator) {
@@ -29,6 +127,13 @@ public abstract class BasePage {
         return wait.until(ExpectedConditions.elementToBeClickable(locator));
     }
 
+    /**
+     * Wait for a condition with a custom timeout, polling at the configured interval
+     */
+    protected <T> T waitFor(ExpectedCondition<T> condition, Duration timeout) {
+        return new WebDriverWait(driver, timeout, POLLING_INTERVAL).until(condition);
+    }
+
     protected void click(By locator) {
         waitForElementClickable(locator).click();
     }
@@ -48,4 +153,188 @@ public abstract class BasePage {
             return false;
         }
     }
+
+    /**
+     * Get a snapshot of this page, captured on first use and cached until an action changes the page
+     * Accessors such as getCartCount() read from it, so consecutive reads cost one round-trip.
+     * @return The cached page state
+     */
+    public PageState getPageState() {
+        if (pageState == null) {
+            awaitPageContent();
+            pageState = PageState.fromScriptResult(
+                    ((JavascriptExecutor) driver).executeScript(PAGE_STATE_SCRIPT,
+                            getItemSelector() == null ? "" : getItemSelector()));
+        }
+        return pageState;
+    }
+
+    /**
+     * Discard the cached snapshot and capture a fresh one
+     */
+    public PageState refreshPageState() {
+        invalidatePageState();
+        return getPageState();
+    }
+
+    /**
+     * Drop the cached snapshot; action methods that change the page must call this
+     */
+    protected void invalidatePageState() {
+        pageState = null;
+    }
+
+    /**
+     * Wait for the content the page state reads to be rendered; runs before every capture
+     */
+    protected void awaitPageContent() {
+    }
+
+    /**
+     * Get the number on the cart badge (0 when the cart is empty and no badge is shown)
+     */
+    public int getCartCount() {
+        return getPageState().getCartBadgeCount();
+    }
+
+    /**
+     * Collect browser timing entries for this page once the document has loaded
+     * and attach them to the current test's record in TestLogger
+     * Failures are reported but never fail the test.
+     * @return The collected metrics, or an empty map if they couldn't be read
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> collectPerformanceMetrics() {
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            wait.until(d -> "complete".equals(js.executeScript("return document.readyState")));
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("page", getClass().getSimpleName());
+            metrics.putAll((Map<String, Object>) js.executeScript(PERFORMANCE_METRICS_SCRIPT));
+            TestLogger.attachPageMetrics(metrics);
+            return metrics;
+        } catch (Exception e) {
+            System.err.println("Could not collect performance metrics for "
+                    + getClass().getSimpleName() + ": " + e.getMessage());
+            return new LinkedHashMap<>();
+        }
+    }
+
+    /**
+     * CSS selector of the item containers captured in the page state, or null if the page lists none
+     */
+    protected String getItemSelector() {
+        return null;
+    }
+
+    /**
+     * Find a displayed element using "type:selector" strategies (id, css, xpath or linkText),
+     * starting with the strategy that last succeeded for this key
+     * Every strategy is tried without waiting on each poll of a single LOCATOR_TIMEOUT wait.
+     * While a higher-ranked strategy matches an element that isn't displayed yet, the wait keeps
+     * polling for it; a later strategy's element is only used if the wait runs out, and is never
+     * learned as the winner, so a slow page doesn't promote a fallback.
+     * @param key Page and action the strategies belong to, e.g. "CartPage.checkout"
+     * @param strategies Strategies in their default order, e.g. "id:checkout", "css:.checkout_button"
+     * @return The first displayed element found
+     */
+    protected WebElement findWithLearnedStrategy(String key, List<String> strategies) {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (String strategy : strategies) {
+            locators.put(strategy, toLocator(strategy));
+        }
+        return findWithLearnedStrategy(key, locators);
+    }
+
+    /**
+     * Find a displayed element like findWithLearnedStrategy(String, List), learning the strategy by name
+     * For locators built per call (e.g. from a product name), so the ranking carries over between calls.
+     * @param key Page and action the strategies belong to, e.g. "ProductsPage.clickOnProduct"
+     * @param strategies Strategy names and their locators, in their default order
+     * @return The first displayed element found
+     */
+    protected WebElement findWithLearnedStrategy(String key, Map<String, By> strategies) {
+        List<String> order = LocatorRegistry.getOrder(key, strategies.keySet());
+        // Displayed element of a strategy ranked after a hidden match, from the latest poll
+        WebElement[] behindHiddenMatch = new WebElement[1];
+        try {
+            return new WebDriverWait(driver, LOCATOR_TIMEOUT, POLLING_INTERVAL)
+                    .ignoring(StaleElementReferenceException.class)
+                    .until(d -> {
+                        behindHiddenMatch[0] = null;
+                        boolean hiddenMatch = false;
+                        for (String strategy : order) {
+                            List<WebElement> elements = findElementsNow(strategies.get(strategy));
+                            if (elements.isEmpty()) {
+                                continue;
+                            }
+                            if (!elements.get(0).isDisplayed()) {
+                                hiddenMatch = true;
+                            } else if (hiddenMatch) {
+                                behindHiddenMatch[0] = elements.get(0);
+                                return null;
+                            } else {
+                                LocatorRegistry.recordSuccess(key, strategy);
+                                return elements.get(0);
+                            }
+                        }
+                        return null;
+                    });
+        } catch (TimeoutException e) {
+            if (behindHiddenMatch[0] != null) {
+                System.out.println("Preferred locator for " + key + " matched a hidden element, using a fallback");
+                return behindHiddenMatch[0];
+            }
+            throw new RuntimeException("No locator strategy found a displayed element for " + key
+                    + " within " + LOCATOR_TIMEOUT.getSeconds() + " s, tried " + order, e);
+        }
+    }
+
+    private static By toLocator(String strategy) {
+        String[] parts = strategy.split(":", 2);
+        switch (parts[0]) {
+            case "id":
+                return By.id(parts[1]);
+            case "css":
+                return By.cssSelector(parts[1]);
+            case "xpath":
+                return By.xpath(parts[1]);
+            case "linkText":
+                return By.linkText(parts[1]);
+            default:
+                throw new IllegalArgumentException("Unknown locator strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Find all matching elements without waiting
+     * The implicit wait is suspended for the lookup, so an absent element costs one round-trip
+     */
+    protected List<WebElement> findElementsNow(By locator) {
+        Duration implicitWait = WebDriverManager.getImplicitWait();
+        if (implicitWait.isZero()) {
+            return driver.findElements(locator);
+        }
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            return driver.findElements(locator);
+        } finally {
+            driver.manage().timeouts().implicitlyWait(implicitWait);
+        }
+    }
+
+    /**
+     * Find the first matching element without waiting
+     */
+    protected Optional<WebElement> findElementNow(By locator) {
+        List<WebElement> elements = findElementsNow(locator);
+        return elements.isEmpty() ? Optional.empty() : Optional.of(elements.get(0));
+    }
+
+    /**
+     * Check whether an element is present right now, without waiting for it to appear
+     */
+    protected boolean isElementPresentNow(By locator) {
+        return !findElementsNow(locator).isEmpty();
+    }
 }
\ No newline at end of file
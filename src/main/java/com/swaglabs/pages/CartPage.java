@@ -1,5 +1,6 @@
 package com.swaglabs.pages;
 
+import com.swaglabs.utils.WebDriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
@@ -14,12 +15,6 @@ import java.util.stream.Collectors;
 
 public class CartPage extends BasePage {
     // Locators
-    @FindBy(className = "title")
-    private WebElement pageTitle;
-    
-    @FindBy(className = "cart_item")
-    private List<WebElement> cartItems;
-    
     @FindBy(id = "continue-shopping")
     private WebElement continueShoppingButton;
     
@@ -32,37 +27,57 @@ public class CartPage extends BasePage {
     
     // Methods
     public boolean isOnCartPage() {
-        return pageTitle.isDisplayed() && pageTitle.getText().equals("Your Cart");
+        return "Your Cart".equals(getPageState().getTitle());
     }
     
     public int getNumberOfItemsInCart() {
-        return cartItems.size();
+        return getPageState().getItems().size();
+    }
+    
+    @Override
+    protected String getItemSelector() {
+        return ".cart_item";
+    }
+    
+    @Override
+    protected void awaitPageContent() {
+        // The list container is rendered even when the cart is empty
+        wait.until(ExpectedConditions.presenceOfElementLocated(By.className("cart_list")));
+    }
+    
+    /**
+     * Get every cart item from the page state
+     * @return Name, description, price and quantity of each cart item, in display order
+     */
+    public List<ItemSnapshot> getCartSnapshot() {
+        return getPageState().getItems();
     }
     
     public boolean isProductInCart(String productName) {
-        return cartItems.stream()
-                .anyMatch(item -> item.findElement(By.className("inventory_item_name")).getText().equals(productName));
+        return getCartSnapshot().stream()
+                .anyMatch(item -> item.getName().equals(productName));
     }
     
     public CartPage removeItem(String productName) {
-        String xpath = String.format("//div[text()='%s']/ancestor::div[@class='cart_item']//button", productName);
-        click(By.xpath(xpath));
+        invalidatePageState();
+        click(ProductLocators.removeButton(productName));
         return this;
     }
     
     public ProductsPage continueShopping() {
+        invalidatePageState();
         continueShoppingButton.click();
         return new ProductsPage();
     }
     
     public CheckoutPage checkout() {
+        invalidatePageState();
         try {
             // Wait up to 20 seconds for the cart page to be fully loaded and stable
             wait = new WebDriverWait(driver, Duration.ofSeconds(20));
-            wait.until(driver -> isOnCartPage());
+            wait.until(driver -> "Your Cart".equals(refreshPageState().getTitle()));
             
-            // Try multiple selector strategies to find the checkout button
-            WebElement button = null;
+            // Try multiple selector strategies to find the checkout button, last winner first
             List<String> selectorStrategies = Arrays.asList(
                 "id:checkout", 
                 "css:.checkout_button", 
@@ -70,36 +85,11 @@ public class CartPage extends BasePage {
                 "xpath://button[contains(text(),'Checkout')]"
             );
             
-            // Try each selector strategy until we find the button
-            for (String strategy : selectorStrategies) {
-                try {
-                    String[] parts = strategy.split(":", 2);
-                    String type = parts[0];
-                    String selector = parts[1];
-                    
-                    switch (type) {
-                        case "id":
-                            button = driver.findElement(By.id(selector));
-                            break;
-                        case "css":
-                            button = driver.findElement(By.cssSelector(selector));
-                            break;
-                        case "xpath":
-                            button = driver.findElement(By.xpath(selector));
-                            break;
-                    }
-                    
-                    if (button != null && button.isDisplayed()) {
-                        System.out.println("Found checkout button using: " + strategy);
-                        break;
-                    }
-                } catch (Exception e) {
-                    System.out.println("Could not find button with " + strategy + ": " + e.getMessage());
-                }
-            }
-            
-            if (button == null) {
-                throw new RuntimeException("Checkout button not found with any selector strategy");
+            WebElement button;
+            try {
+                button = findWithLearnedStrategy("CartPage.checkout", selectorStrategies);
+            } catch (RuntimeException e) {
+                throw new RuntimeException("Checkout button not found with any selector strategy", e);
             }
             
             // Scroll the button into view before clicking
@@ -141,17 +131,14 @@ public class CartPage extends BasePage {
     }
     
     public List<String> getCartItemNames() {
-        return cartItems.stream()
-                .map(item -> item.findElement(By.className("inventory_item_name")).getText())
+        return getCartSnapshot().stream()
+                .map(ItemSnapshot::getName)
                 .collect(Collectors.toList());
     }
     
     public double getTotalPrice() {
-        return cartItems.stream()
-                .mapToDouble(item -> {
-                    String priceText = item.findElement(By.className("inventory_item_price")).getText();
-                    return Double.parseDouble(priceText.replace("$", ""));
-                })
+        return getCartSnapshot().stream()
+                .mapToDouble(ItemSnapshot::getPrice)
                 .sum();
     }
 }
\ No newline at end of file
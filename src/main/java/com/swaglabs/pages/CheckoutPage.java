@@ -1,14 +1,20 @@
 package com.swaglabs.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+
+import java.util.Arrays;
+import java.util.List;
 
 public class CheckoutPage extends BasePage {
-    // Locators
-    @FindBy(className = "title")
-    private WebElement pageTitle;
+    private static final String STEP_ONE_TITLE = "Checkout: Your Information";
+    private static final String STEP_TWO_TITLE = "Checkout: Overview";
+    private static final String COMPLETE_TITLE = "Checkout: Complete";
     
+    // Locators
     @FindBy(id = "first-name")
     private WebElement firstNameField;
     
@@ -24,9 +30,6 @@ public class CheckoutPage extends BasePage {
     @FindBy(id = "cancel")
     private WebElement cancelButton;
     
-    @FindBy(css = "[data-test='error']")
-    private WebElement errorMessage;
-    
     // Checkout Step Two locators
     @FindBy(className = "summary_info")
     private WebElement orderSummary;
@@ -43,16 +46,14 @@ public class CheckoutPage extends BasePage {
     @FindBy(id = "finish")
     private WebElement finishButton;
     
-    // Checkout Complete locators
-    @FindBy(className = "complete-header")
-    private WebElement completeHeader;
-      // Using a more flexible locator for the back home button that matches different possible IDs
-    @FindBy(css = "#back-to-products, #back-home, .checkout_complete_container .btn")
-    private WebElement backHomeButton;
+    @Override
+    protected void awaitPageContent() {
+        wait.until(ExpectedConditions.presenceOfElementLocated(By.className("title")));
+    }
     
     // Methods for Checkout Step One
     public boolean isOnCheckoutStepOne() {
-        return pageTitle.isDisplayed() && pageTitle.getText().equals("Checkout: Your Information");
+        return STEP_ONE_TITLE.equals(getPageState().getTitle());
     }
     
     public CheckoutPage enterFirstName(String firstName) {
@@ -80,11 +81,14 @@ public class CheckoutPage extends BasePage {
         return this;
     }
       public CheckoutPage clickContinue() {
+        invalidatePageState();
         continueButton.click();
-        // Add explicit wait for the checkout overview page to load
+        // Wait for the checkout overview page to load, or for the form to show a validation error
         try {
-            wait.until(condition -> pageTitle.isDisplayed() && 
-                                   pageTitle.getText().equals("Checkout: Overview"));
+            wait.until(driver -> {
+                PageState state = refreshPageState();
+                return STEP_TWO_TITLE.equals(state.getTitle()) || state.hasError();
+            });
         } catch (Exception e) {
             // If timeout occurs, we'll handle it in the test assertion
         }
@@ -92,25 +96,22 @@ public class CheckoutPage extends BasePage {
     }
     
     public CartPage clickCancel() {
+        invalidatePageState();
         cancelButton.click();
         return new CartPage();
     }
     
     public String getErrorMessage() {
-        return errorMessage.getText();
+        return getPageState().getErrorMessage();
     }
     
     public boolean isErrorDisplayed() {
-        try {
-            return errorMessage.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return getPageState().hasError();
     }
     
     // Methods for Checkout Step Two
     public boolean isOnCheckoutStepTwo() {
-        return pageTitle.isDisplayed() && pageTitle.getText().equals("Checkout: Overview");
+        return STEP_TWO_TITLE.equals(getPageState().getTitle());
     }
     
     public double getSubtotalAmount() {
@@ -129,6 +130,7 @@ public class CheckoutPage extends BasePage {
     }
     
     public CheckoutPage clickFinish() {
+        invalidatePageState();
         finishButton.click();
         return this;
     }
@@ -136,51 +138,42 @@ public class CheckoutPage extends BasePage {
     // Methods for Checkout Complete
     public boolean isOnCheckoutComplete() {
         try {
-            wait.until(driver -> {
-                try {
-                    return completeHeader.isDisplayed();
-                } catch (Exception e) {
-                    return false;
-                }
-            });
-            
-            return completeHeader.isDisplayed() && 
-                  (completeHeader.getText().toLowerCase().contains("thank you") || 
-                   completeHeader.getText().toLowerCase().contains("complete") ||
-                   completeHeader.getText().toLowerCase().contains("order"));
+            // The order may still be submitting, so re-capture the state until the title changes
+            wait.until(driver -> getPageState().getTitle().startsWith(COMPLETE_TITLE)
+                    || refreshPageState().getTitle().startsWith(COMPLETE_TITLE));
+            return true;
         } catch (Exception e) {
-            // If we can't find the complete header, look for any indication we're on the complete page
+            // If the title never changed, look for any indication we're on the complete page
             try {
-                WebElement anyCompletePageElement = driver.findElement(
-                    By.cssSelector(".checkout_complete_container, .complete-text, [data-test='complete-text']"));
-                return anyCompletePageElement.isDisplayed();
+                return findElementNow(By.cssSelector(
+                    ".checkout_complete_container, .complete-text, [data-test='complete-text']"))
+                    .map(WebElement::isDisplayed).orElse(false);
             } catch (Exception ex) {
                 return false;
             }
         }
     }
       public ProductsPage clickBackHome() {
-        // Wait for the back home button to be clickable before attempting to click
+        // Different versions of the page use different ids for the back home button, last winner first
+        List<String> selectorStrategies = Arrays.asList(
+            "id:back-to-products",
+            "id:back-home",
+            "css:[data-test='back-to-products']",
+            "css:.checkout_complete_container .btn, .checkout_complete_container button"
+        );
+        
+        WebElement button;
         try {
-            wait.until(driver -> {
-                try {
-                    return backHomeButton.isDisplayed() && backHomeButton.isEnabled();
-                } catch (Exception e) {
-                    return false;
-                }
-            });
-            backHomeButton.click();
+            button = findWithLearnedStrategy("CheckoutPage.clickBackHome", selectorStrategies);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Could not find back home button: " + e.getMessage());
+        }
+        
+        try {
+            button.click();
         } catch (Exception e) {
-            System.out.println("Error clicking back home button: " + e.getMessage());
-            // Try an alternative approach - find by any available identifier
-            try {
-                // Look for any button that might be the "back to products" button
-                WebElement alternativeButton = driver.findElement(
-                    By.cssSelector(".checkout_complete_container button, #back-to-products, [data-test='back-to-products']"));
-                alternativeButton.click();
-            } catch (Exception ex) {
-                throw new RuntimeException("Could not find back home button: " + ex.getMessage());
-            }
+            System.out.println("Standard click on back home button failed, trying JavaScript click");
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", button);
         }
         return new ProductsPage();
     }
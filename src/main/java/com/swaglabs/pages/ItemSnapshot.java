@@ -0,0 +1,106 @@
+package com.swaglabs.pages;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable copy of one inventory or cart item, read from the page in a single script call
+ */
+public class ItemSnapshot {
+    private final String name;
+    private final String description;
+    private final double price;
+    private final int quantity;
+    private final String buttonText;
+    private final boolean displayed;
+
+    public ItemSnapshot(String name, String description, double price, int quantity, String buttonText,
+                        boolean displayed) {
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.quantity = quantity;
+        this.buttonText = buttonText;
+        this.displayed = displayed;
+    }
+
+    /**
+     * Convert the list of maps returned by BasePage's snapshot script
+     * @param scriptResult The raw executeScript result
+     * @return The items in page order
+     */
+    static List<ItemSnapshot> fromScriptResult(Object scriptResult) {
+        if (!(scriptResult instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<ItemSnapshot> items = new ArrayList<>();
+        for (Object entry : (List<?>) scriptResult) {
+            Map<?, ?> item = (Map<?, ?>) entry;
+            items.add(new ItemSnapshot(
+                    asString(item.get("name")),
+                    asString(item.get("description")),
+                    parsePrice(asString(item.get("price"))),
+                    parseQuantity(asString(item.get("quantity"))),
+                    asString(item.get("button")),
+                    Boolean.TRUE.equals(item.get("displayed"))));
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    private static String asString(Object value) {
+        return value == null ? "" : value.toString().trim();
+    }
+
+    private static double parsePrice(String priceText) {
+        String digits = priceText.replace("$", "");
+        return digits.isEmpty() ? 0.0 : Double.parseDouble(digits);
+    }
+
+    private static int parseQuantity(String quantityText) {
+        return quantityText.isEmpty() ? 0 : Integer.parseInt(quantityText);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public double getPrice() {
+        return price;
+    }
+
+    /**
+     * Get the cart quantity (0 for inventory items, which show no quantity)
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public String getButtonText() {
+        return buttonText;
+    }
+
+    /**
+     * Check whether the item was rendered visibly (not display:none or visibility:hidden) when captured
+     */
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    /**
+     * Check whether the item's button offers "Remove", i.e. the product is in the cart
+     */
+    public boolean isInCart() {
+        return "Remove".equalsIgnoreCase(buttonText);
+    }
+
+    @Override
+    public String toString() {
+        return name + " ($" + price + ", " + buttonText + ")";
+    }
+}
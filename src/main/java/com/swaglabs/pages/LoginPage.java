@@ -1,9 +1,11 @@
 package com.swaglabs.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import com.swaglabs.enums.UserType;
+import com.swaglabs.utils.WebDriverManager;
 
 public class LoginPage extends BasePage {
     // Locators
@@ -27,6 +29,9 @@ public class LoginPage extends BasePage {
     public static final String VISUAL_USER = "visual_user";
     public static final String PASSWORD = "secret_sauce";
 
+    // Cookie in which Swag Labs keeps the logged-in user
+    private static final String SESSION_COOKIE = "session-username";
+
     // Methods
     public void enterUsername(String username) {
         usernameField.clear();
@@ -70,6 +75,26 @@ public class LoginPage extends BasePage {
         return loginAs(userType.getUsername(), userType.getPassword());
     }
     
+    /**
+     * Log in without the login form: set the session cookie for a user type and open the inventory page
+     * Use this in tests that need a logged-in user but don't cover the login form itself.
+     * @param userType The type of user to log in as
+     * @return The Products page
+     */
+    public ProductsPage loginWithSession(UserType userType) {
+        if (userType == UserType.LOCKED_OUT_USER) {
+            throw new IllegalArgumentException("locked_out_user cannot log in, use loginAs to test the rejection");
+        }
+        String baseUrl = WebDriverManager.getBaseUrl();
+        // A cookie can only be set for the origin of the current page
+        if (!driver.getCurrentUrl().startsWith(baseUrl)) {
+            driver.get(baseUrl);
+        }
+        driver.manage().addCookie(new Cookie(SESSION_COOKIE, userType.getUsername(), "/"));
+        driver.get(baseUrl + "/inventory.html");
+        return new ProductsPage();
+    }
+    
     /**
      * Check if error message is displayed
      * @return true if error message is displayed
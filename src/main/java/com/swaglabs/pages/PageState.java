@@ -0,0 +1,107 @@
+package com.swaglabs.pages;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of what a page showed at one moment
+ * Captured with a single script call so assertions can read it from memory
+ */
+public class PageState {
+    private final String title;
+    private final String url;
+    private final int cartBadgeCount;
+    private final String errorMessage;
+    private final List<ItemSnapshot> items;
+    private final long capturedAt;
+
+    public PageState(String title, String url, int cartBadgeCount, String errorMessage, List<ItemSnapshot> items) {
+        this.title = title;
+        this.url = url;
+        this.cartBadgeCount = cartBadgeCount;
+        this.errorMessage = errorMessage;
+        this.items = Collections.unmodifiableList(items);
+        this.capturedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Convert the map returned by BasePage's page state script
+     * @param scriptResult The raw executeScript result
+     * @return The captured state
+     */
+    static PageState fromScriptResult(Object scriptResult) {
+        Map<?, ?> state = (Map<?, ?>) scriptResult;
+        String badge = state.get("badge") == null ? "" : state.get("badge").toString().trim();
+        return new PageState(
+                state.get("title") == null ? "" : state.get("title").toString().trim(),
+                state.get("url") == null ? "" : state.get("url").toString(),
+                badge.isEmpty() ? 0 : Integer.parseInt(badge),
+                state.get("error") == null ? "" : state.get("error").toString().trim(),
+                ItemSnapshot.fromScriptResult(state.get("items")));
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Get the number on the cart badge (0 when no badge is shown)
+     */
+    public int getCartBadgeCount() {
+        return cartBadgeCount;
+    }
+
+    /**
+     * Get the text of the form error message (empty when no error is shown)
+     */
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public boolean hasError() {
+        return !errorMessage.isEmpty();
+    }
+
+    public List<ItemSnapshot> getItems() {
+        return items;
+    }
+
+    /**
+     * Find an item by its displayed name
+     */
+    public Optional<ItemSnapshot> getItem(String name) {
+        return items.stream().filter(item -> item.getName().equals(name)).findFirst();
+    }
+
+    /**
+     * Check whether an item is in the page, displayed or not
+     */
+    public boolean containsItem(String name) {
+        return getItem(name).isPresent();
+    }
+
+    /**
+     * Check whether an item is in the page and was displayed when the state was captured
+     */
+    public boolean isItemDisplayed(String name) {
+        return getItem(name).map(ItemSnapshot::isDisplayed).orElse(false);
+    }
+
+    /**
+     * Get the capture time in epoch milliseconds
+     */
+    public long getCapturedAt() {
+        return capturedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PageState[" + title + ", " + url + ", badge=" + cartBadgeCount + ", items=" + items.size() + "]";
+    }
+}
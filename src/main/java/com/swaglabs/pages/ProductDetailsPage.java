@@ -6,6 +6,8 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import com.swaglabs.utils.WebDriverManager; // Add import for WebDriverManager
+import java.util.Arrays;
+import java.util.List;
 
 public class ProductDetailsPage extends BasePage {
     // Multiple locators for product name to improve resilience
@@ -36,6 +38,9 @@ public class ProductDetailsPage extends BasePage {
     @FindBy(css = "button[id^='remove']")
     private WebElement removeButton;
     
+    private final By addToCartLocator = By.cssSelector("button[id^='add-to-cart']");
+    private final By removeLocator = By.cssSelector("button[id^='remove']");
+    
     @FindBy(css = ".shopping_cart_link")
     private WebElement cartLink;
     
@@ -166,23 +171,27 @@ public class ProductDetailsPage extends BasePage {
     }
     
     public ProductDetailsPage addToCart() {
+        invalidatePageState();
         addToCartButton.click();
         return this;
     }
     
     public ProductDetailsPage removeFromCart() {
+        invalidatePageState();
         removeButton.click();
         return this;
     }
     
     public CartPage goToCart() {
+        invalidatePageState();
         cartLink.click();
         return new CartPage();
     }
     
     public ProductsPage backToProducts() {
+        invalidatePageState();
         try {
-            // Try multiple selector strategies for the back button
+            // Try multiple selector strategies for the back button, last winner first
             List<String> selectorStrategies = Arrays.asList(
                 "id:back-to-products", 
                 "css:.back-to-products", 
@@ -191,39 +200,16 @@ public class ProductDetailsPage extends BasePage {
             );
             
             WebElement backButton = null;
-            
-            // Try each selector strategy until we find the button
-            for (String strategy : selectorStrategies) {
-                try {
-                    String[] parts = strategy.split(":", 2);
-                    String type = parts[0];
-                    String selector = parts[1];
-                    
-                    switch (type) {
-                        case "id":
-                            backButton = driver.findElement(By.id(selector));
-                            break;
-                        case "css":
-                            backButton = driver.findElement(By.cssSelector(selector));
-                            break;
-                        case "xpath":
-                            backButton = driver.findElement(By.xpath(selector));
-                            break;
-                    }
-                    
-                    if (backButton != null && backButton.isDisplayed()) {
-                        System.out.println("Found back button using: " + strategy);
-                        break;
-                    }
-                } catch (Exception e) {
-                    System.out.println("Could not find back button with " + strategy);
-                }
+            try {
+                backButton = findWithLearnedStrategy("ProductDetailsPage.backToProducts", selectorStrategies);
+            } catch (RuntimeException e) {
+                System.out.println("Could not find back button with any selector strategy");
             }
             
             if (backButton == null) {
                 // Last resort - try to navigate directly to inventory
                 System.out.println("Back button not found, navigating directly to inventory page");
-                driver.navigate().to("https://www.saucedemo.com/inventory.html");
+                driver.navigate().to(WebDriverManager.getBaseUrl() + "/inventory.html");
                 wait.until(ExpectedConditions.urlContains("inventory"));
                 return new ProductsPage();
             }
@@ -239,34 +225,26 @@ public class ProductDetailsPage extends BasePage {
         } catch (Exception e) {
             System.err.println("Error going back to products: " + e.getMessage());
             // Navigate directly to inventory as fallback
-            driver.navigate().to("https://www.saucedemo.com/inventory.html");
+            driver.navigate().to(WebDriverManager.getBaseUrl() + "/inventory.html");
         }
         
         return new ProductsPage();
     }
     
     public boolean isAddToCartButtonDisplayed() {
-        try {
-            return addToCartButton.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return isButtonDisplayedNow(addToCartLocator);
     }
     
     public boolean isRemoveButtonDisplayed() {
-        try {
-            return removeButton.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return isButtonDisplayedNow(removeLocator);
     }
     
-    public int getCartCount() {
+    // Only one of the two buttons is shown, so the absent one must not wait for its element
+    private boolean isButtonDisplayedNow(By locator) {
         try {
-            WebElement cartBadge = driver.findElement(By.className("shopping_cart_badge"));
-            return Integer.parseInt(cartBadge.getText());
+            return findElementNow(locator).map(WebElement::isDisplayed).orElse(false);
         } catch (Exception e) {
-            return 0;
+            return false;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.swaglabs.pages;
+
+import org.openqa.selenium.By;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locator factory for product-specific elements
+ * Swag Labs derives button ids from the product name ("Sauce Labs Backpack" becomes
+ * add-to-cart-sauce-labs-backpack / remove-sauce-labs-backpack), so products can be located
+ * with an id-based CSS selector instead of an ancestor-axis XPath. Each By is built once per product.
+ */
+public final class ProductLocators {
+    private static final Map<String, By> ADD_TO_CART = new ConcurrentHashMap<>();
+    private static final Map<String, By> REMOVE = new ConcurrentHashMap<>();
+
+    private ProductLocators() {
+    }
+
+    /**
+     * Convert a product name to the id suffix Swag Labs uses
+     * @param productName The displayed product name
+     * @return The slug, e.g. "sauce-labs-backpack"
+     */
+    public static String slug(String productName) {
+        return productName.trim().toLowerCase(Locale.ROOT).replace(' ', '-');
+    }
+
+    /**
+     * "Add to cart" button of a product on the inventory page
+     */
+    public static By addToCartButton(String productName) {
+        return ADD_TO_CART.computeIfAbsent(productName,
+                name -> By.cssSelector("button[id='add-to-cart-" + slug(name) + "']"));
+    }
+
+    /**
+     * "Remove" button of a product on the inventory or cart page
+     */
+    public static By removeButton(String productName) {
+        return REMOVE.computeIfAbsent(productName,
+                name -> By.cssSelector("button[id='remove-" + slug(name) + "']"));
+    }
+}
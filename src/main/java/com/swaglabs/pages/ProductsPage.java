@@ -1,111 +1,136 @@
 package com.swaglabs.pages;
 
+import com.swaglabs.utils.WebDriverManager;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class ProductsPage extends BasePage {
     // Locators
-    @FindBy(className = "title")
-    private WebElement pageTitle;
-    
     @FindBy(className = "product_sort_container")
     private WebElement sortDropdown;
     
     @FindBy(className = "shopping_cart_link")
     private WebElement cartLink;
     
-    @FindBy(className = "inventory_item")
-    private List<WebElement> productItems;
-    
-    @FindBy(css = ".inventory_item_price")
-    private List<WebElement> productPrices;
-    
-    @FindBy(css = ".inventory_item_name")
-    private List<WebElement> productNames;
-    
     @FindBy(id = "react-burger-menu-btn")
     private WebElement menuButton;
     
-    private final By addToCartButtons = By.cssSelector("button[id^='add-to-cart']");
-    private final By removeButtons = By.cssSelector("button[id^='remove']");
-    
     // Methods
     public boolean isOnProductsPage() {
-        return pageTitle.isDisplayed() && pageTitle.getText().equals("Products");
+        return "Products".equals(getPageState().getTitle());
     }
     
     public void sortProductsBy(String sortOption) {
+        invalidatePageState();
         Select select = new Select(sortDropdown);
         select.selectByVisibleText(sortOption);
     }
     
+    @Override
+    protected String getItemSelector() {
+        return ".inventory_item";
+    }
+    
+    @Override
+    protected void awaitPageContent() {
+        wait.until(ExpectedConditions.presenceOfElementLocated(By.className("inventory_item")));
+    }
+    
+    /**
+     * Get every product on the page from the page state
+     * @return Name, description, price and button state of each product, in display order
+     */
+    public List<ItemSnapshot> getProductSnapshot() {
+        return getPageState().getItems();
+    }
+    
+    /**
+     * Wait until at least a number of products are displayed, then read them
+     * @param expectedCount Number of products the inventory should show
+     * @return Every product, read once the expected number is displayed
+     */
+    public List<ItemSnapshot> waitForProducts(int expectedCount) {
+        wait.until(driver -> {
+            try {
+                return findElementsNow(By.className("inventory_item")).stream()
+                        .filter(WebElement::isDisplayed)
+                        .count() >= expectedCount;
+            } catch (Exception e) {
+                return false;
+            }
+        });
+        invalidatePageState();
+        return getProductSnapshot();
+    }
+    
     public List<String> getProductNames() {
-        return productNames.stream()
-                .map(WebElement::getText)
+        return getProductSnapshot().stream()
+                .map(ItemSnapshot::getName)
                 .collect(Collectors.toList());
     }
     
     public List<Double> getProductPrices() {
-        return productPrices.stream()
-                .map(element -> element.getText().replace("$", ""))
-                .map(Double::parseDouble)
+        return getProductSnapshot().stream()
+                .map(ItemSnapshot::getPrice)
                 .collect(Collectors.toList());
     }
     
     public ProductsPage clickAddToCartForProduct(String productName) {
-        String xpath = String.format("//div[text()='%s']/ancestor::div[@class='inventory_item']//button[contains(@id, 'add-to-cart')]", productName);
-        click(By.xpath(xpath));
+        invalidatePageState();
+        click(ProductLocators.addToCartButton(productName));
         return this;
     }
     
     public ProductsPage clickRemoveForProduct(String productName) {
-        String xpath = String.format("//div[text()='%s']/ancestor::div[@class='inventory_item']//button[contains(@id, 'remove')]", productName);
-        click(By.xpath(xpath));
+        invalidatePageState();
+        click(ProductLocators.removeButton(productName));
         return this;
     }
     
     public ProductDetailsPage clickOnProduct(String productName) {
+        invalidatePageState();
+        System.out.println("Attempting to click on product: " + productName);
+        
+        // Product-specific strategies, tried in the order that last worked
+        Map<String, By> strategies = new LinkedHashMap<>();
+        strategies.put("linkText", By.linkText(productName));
+        strategies.put("xpath", By.xpath(String.format(
+            "//div[contains(@class,'inventory_item_name') and contains(text(),'%s')]", productName)));
+        
+        WebElement product;
         try {
-            System.out.println("Attempting to click on product: " + productName);
-            
-            // First try with exact product name using link text
-            wait.until(ExpectedConditions.elementToBeClickable(By.linkText(productName))).click();
-            System.out.println("Clicked product using link text");
+            product = findWithLearnedStrategy("ProductsPage.clickOnProduct", strategies);
+        } catch (RuntimeException e) {
+            // This fallback clicks any product, so it is never learned as the preferred strategy
+            System.out.println("Could not find product by name, trying CSS selector: " + e.getMessage());
+            List<WebElement> anyProduct = findElementsNow(By.cssSelector(".inventory_item_name"));
+            if (anyProduct.isEmpty()) {
+                throw new RuntimeException("Failed to click on product after multiple attempts", e);
+            }
+            product = anyProduct.get(0);
+        }
+        
+        try {
+            product.click();
+            System.out.println("Clicked product " + productName);
         } catch (Exception e) {
-            System.out.println("Could not find product by link text, trying XPath: " + e.getMessage());
+            System.out.println("Failed to click using standard approaches, trying JavaScript click: " + e.getMessage());
+            
+            // Last resort: JavaScript click on the element that was found
             try {
-                // Second, try with xpath that contains the product name
-                String xpath = String.format("//div[contains(@class,'inventory_item_name') and contains(text(),'%s')]", productName);
-                WebElement product = wait.until(ExpectedConditions.elementToBeClickable(By.xpath(xpath)));
-                product.click();
-                System.out.println("Clicked product using XPath");
-            } catch (Exception e2) {
-                System.out.println("Could not find product by XPath, trying CSS selector: " + e2.getMessage());
-                try {
-                    // Third, try with CSS selector
-                    WebElement product = wait.until(ExpectedConditions.elementToBeClickable(
-                        By.cssSelector(".inventory_item_name")));
-                    product.click();
-                    System.out.println("Clicked first product using CSS selector");
-                } catch (Exception e3) {
-                    System.out.println("Failed to click using standard approaches, trying JavaScript click: " + e3.getMessage());
-                    
-                    // Last resort: try JavaScript click on any product
-                    try {
-                        WebElement anyProduct = driver.findElement(By.cssSelector(".inventory_item_name"));
-                        ((JavascriptExecutor) driver).executeScript("arguments[0].click();", anyProduct);
-                        System.out.println("Clicked product using JavaScript");
-                    } catch (Exception e4) {
-                        System.out.println("All attempts to click product failed: " + e4.getMessage());
-                        throw new RuntimeException("Failed to click on product after multiple attempts", e4);
-                    }
-                }
+                ((JavascriptExecutor) driver).executeScript("arguments[0].click();", product);
+                System.out.println("Clicked product using JavaScript");
+            } catch (Exception e4) {
+                System.out.println("All attempts to click product failed: " + e4.getMessage());
+                throw new RuntimeException("Failed to click on product after multiple attempts", e4);
             }
         }
         
@@ -125,18 +150,13 @@ public class ProductsPage extends BasePage {
     }
     
     public CartPage goToCart() {
+        invalidatePageState();
         cartLink.click();
         return new CartPage();
     }
     
-    public int getCartCount() {
-        try {
-            WebElement cartBadge = driver.findElement(By.className("shopping_cart_badge"));
-            return Integer.parseInt(cartBadge.getText());
-        } catch (Exception e) {
-            return 0;
-        }
-    }    public void openMenu() {
+    public void openMenu() {
+        invalidatePageState();
         // Wait for menu button to be clickable before clicking
         wait.until(driver -> {
             try {
@@ -169,6 +189,7 @@ public class ProductsPage extends BasePage {
     }
     
     public LoginPage logout() {
+        invalidatePageState();
         // First make sure the menu is open
         openMenu();
         waitForMenuToAppear();
@@ -187,17 +208,17 @@ public class ProductsPage extends BasePage {
             } catch (Exception jsException) {
                 System.out.println("JavaScript click also failed: " + jsException.getMessage());
                 // Last resort: go directly to the login page
-                driver.get("https://www.saucedemo.com/");
+                driver.get(WebDriverManager.getBaseUrl() + "/");
             }
         }
         
         // Wait for login page to load
-        wait.until(ExpectedConditions.urlContains("saucedemo.com"));
+        wait.until(ExpectedConditions.urlContains(WebDriverManager.getBaseUrl()));
         
         return new LoginPage();
     }
     
     public boolean isProductDisplayed(String productName) {
-        return driver.findElements(By.xpath(String.format("//div[text()='%s']", productName))).size() > 0;
+        return getPageState().isItemDisplayed(productName);
     }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Snapshot of a browser's cookies and localStorage (which holds the Swag Labs cart) plus the page it was on
+ * Fixtures that take several UI steps to build are built once per worker thread with restoreOrBuild();
+ * later tests on that thread get the same state back with one script call and one page load.
+ */
+public final class BrowserCheckpoint {
+    // Reads every localStorage entry of the current origin
+    private static final String CAPTURE_SCRIPT =
+            "var entries = {};"
+            + "for (var i = 0; i < window.localStorage.length; i++) {"
+            + "  var key = window.localStorage.key(i);"
+            + "  entries[key] = window.localStorage.getItem(key);"
+            + "}"
+            + "return entries;";
+
+    // Replaces localStorage with arguments[0] and the script-visible cookies with arguments[1]
+    private static final String RESTORE_SCRIPT =
+            "var entries = arguments[0], cookies = arguments[1];"
+            + "window.localStorage.clear();"
+            + "Object.keys(entries).forEach(function (key) { window.localStorage.setItem(key, entries[key]); });"
+            + "document.cookie.split(';').forEach(function (cookie) {"
+            + "  var name = cookie.split('=')[0].trim();"
+            + "  if (name) { document.cookie = name + '=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT'; }"
+            + "});"
+            + "cookies.forEach(function (cookie) { document.cookie = cookie; });";
+
+    private static final Duration FIXTURE_TIMEOUT = Duration.ofSeconds(10);
+    // The page is already loaded when driver.get returns, so this only covers a late client-side route change
+    private static final Duration RESTORE_TIMEOUT = Duration.ofSeconds(2);
+
+    private static final ThreadLocal<Map<String, BrowserCheckpoint>> CHECKPOINTS =
+            ThreadLocal.withInitial(HashMap::new);
+
+    private final String url;
+    private final List<Cookie> cookies;
+    private final Map<String, String> localStorage;
+
+    private BrowserCheckpoint(String url, List<Cookie> cookies, Map<String, String> localStorage) {
+        this.url = url;
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+    }
+
+    /**
+     * Capture the current page, cookies and localStorage of a browser
+     * @param driver The browser to capture
+     * @return The checkpoint
+     */
+    @SuppressWarnings("unchecked")
+    public static BrowserCheckpoint capture(WebDriver driver) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        Object result = ((JavascriptExecutor) driver).executeScript(CAPTURE_SCRIPT);
+        if (result instanceof Map) {
+            ((Map<String, Object>) result).forEach((key, value) -> entries.put(key, String.valueOf(value)));
+        }
+        return new BrowserCheckpoint(driver.getCurrentUrl(),
+                new ArrayList<>(driver.manage().getCookies()), entries);
+    }
+
+    /**
+     * Put a browser back into the captured state and load the captured page
+     * @param driver The browser to restore
+     * @throws IllegalStateException if the browser doesn't end up on the captured page,
+     * e.g. because the session cookie has expired and the site redirected to the login page
+     */
+    public void restore(WebDriver driver) {
+        // Storage and cookies are per origin, so the script has to run on a page of that origin
+        URI target = URI.create(url);
+        String origin = target.getScheme() + "://" + target.getRawAuthority();
+        if (!driver.getCurrentUrl().startsWith(origin)) {
+            driver.get(origin + "/");
+        }
+        List<String> scriptCookies = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            if (cookie.isHttpOnly()) {
+                // Invisible to scripts, so these go through WebDriver one by one
+                driver.manage().addCookie(cookie);
+            } else {
+                scriptCookies.add(toCookieString(cookie));
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(RESTORE_SCRIPT, localStorage, scriptCookies);
+        driver.get(url);
+        try {
+            new WebDriverWait(driver, RESTORE_TIMEOUT).until(ExpectedConditions.urlContains(target.getPath()));
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Restored browser is on " + driver.getCurrentUrl()
+                    + " instead of " + url, e);
+        }
+    }
+
+    /**
+     * Restore the named checkpoint on the current thread's driver, or build the fixture and capture it
+     * Checkpoints are kept per worker thread, so each worker builds a fixture through the UI only once.
+     * Fixtures are always built from a reset browser, logged out on the base URL with empty storage,
+     * so a checkpoint that can't be restored (e.g. an expired session) is simply built again.
+     * @param name Name of the fixture, unique per fixture, e.g. "CartTests.cartWith:Sauce Labs Backpack"
+     * @param pagePath Path of the page the fixture ends on, e.g. "/cart.html"; captured once the browser is there
+     * @param fixture Builds the state through the UI, including the login, starting logged out on the base URL
+     */
+    public static void restoreOrBuild(String name, String pagePath, Runnable fixture) {
+        WebDriver driver = WebDriverManager.getDriver();
+        BrowserCheckpoint checkpoint = CHECKPOINTS.get().get(name);
+        if (checkpoint != null) {
+            try {
+                checkpoint.restore(driver);
+                return;
+            } catch (Exception e) {
+                System.err.println("Failed to restore checkpoint '" + name + "', rebuilding it: " + e.getMessage());
+                CHECKPOINTS.get().remove(name);
+            }
+        }
+        if (!WebDriverManager.resetSession()) {
+            throw new IllegalStateException("Could not reset the browser to build checkpoint '" + name + "'");
+        }
+        fixture.run();
+        // Page objects return before client-side navigation finishes, so wait for the final page
+        new WebDriverWait(driver, FIXTURE_TIMEOUT).until(ExpectedConditions.urlContains(pagePath));
+        CHECKPOINTS.get().put(name, capture(driver));
+    }
+
+    /**
+     * Forget every checkpoint captured on the current thread
+     */
+    public static void clear() {
+        CHECKPOINTS.remove();
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    private static String toCookieString(Cookie cookie) {
+        StringBuilder value = new StringBuilder(cookie.getName()).append('=').append(cookie.getValue())
+                .append("; path=").append(cookie.getPath() == null ? "/" : cookie.getPath());
+        if (cookie.getDomain() != null && cookie.getDomain().startsWith(".")) {
+            value.append("; domain=").append(cookie.getDomain());
+        }
+        if (cookie.getExpiry() != null) {
+            value.append("; expires=").append(cookie.getExpiry().toInstant()
+                    .atZone(ZoneOffset.UTC).format(DateTimeFormatter.RFC_1123_DATE_TIME));
+        }
+        if (cookie.isSecure()) {
+            value.append("; secure");
+        }
+        return value.toString();
+    }
+}
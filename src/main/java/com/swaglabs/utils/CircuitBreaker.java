@@ -0,0 +1,199 @@
+package com.swaglabs.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker shared by every caller of an unreliable operation
+ * Closed: calls go through and their outcomes fill a sliding window of the last windowSize calls.
+ * Once the window holds minimumCalls outcomes and the failure rate reaches the threshold the breaker opens.
+ * Open: calls are rejected immediately until openDuration has passed.
+ * Half-open: a single probe call is let through; success closes the breaker, failure opens it again.
+ *
+ * Every state change starts a new generation, and each permission carries the generation it was
+ * given in. Outcomes of permissions from an earlier generation are ignored, so a call that was
+ * let through while the breaker was closed can't close it after it opened, and only the
+ * half-open probe decides whether it closes again.
+ */
+public class CircuitBreaker {
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Thrown instead of attempting a call while the breaker is open
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String message) {
+            super(message);
+        }
+    }
+
+    private final String name;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+
+    private final Deque<Boolean> window = new ArrayDeque<>();
+    private int failuresInWindow;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean probeInFlight;
+    private long generation;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timesOpened = new LongAdder();
+
+    /**
+     * Create a new breaker
+     * @param name Name used in messages, e.g. "navigation"
+     * @param windowSize Number of most recent calls the failure rate is computed over
+     * @param minimumCalls Calls needed in the window before the breaker can open
+     * @param failureRateThreshold Failure rate (0-1] at which the breaker opens
+     * @param openDurationMillis How long the breaker rejects calls before letting a probe through
+     */
+    public CircuitBreaker(String name, int windowSize, int minimumCalls,
+                          double failureRateThreshold, long openDurationMillis) {
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("Invalid window for circuit breaker " + name
+                    + ": size " + windowSize + ", minimum calls " + minimumCalls);
+        }
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("Failure rate threshold must be in (0, 1], got " + failureRateThreshold);
+        }
+        this.name = name;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+    }
+
+    /**
+     * Ask for permission to make a call; every permitted call must be followed by
+     * recordSuccess() or recordFailure() with the returned permit
+     * @return The permit to report the call's outcome with
+     * @throws CircuitOpenException if the breaker is open, or half-open with a probe already in flight
+     */
+    public synchronized long acquirePermission() {
+        if (state == State.OPEN) {
+            long remaining = openedAt + openDurationNanos - System.nanoTime();
+            if (remaining > 0) {
+                rejected.increment();
+                throw new CircuitOpenException("Circuit breaker '" + name + "' is open, failing fast; next probe in "
+                        + TimeUnit.NANOSECONDS.toMillis(remaining) + " ms");
+            }
+            changeState(State.HALF_OPEN);
+            System.out.println("Circuit breaker '" + name + "' half-open, probing");
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejected.increment();
+                throw new CircuitOpenException("Circuit breaker '" + name + "' is half-open and already probing, failing fast");
+            }
+            probeInFlight = true;
+        }
+        return generation;
+    }
+
+    /**
+     * Record that a permitted call succeeded
+     * @param permit The permit acquirePermission() returned for the call
+     */
+    public synchronized void recordSuccess(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            System.out.println("Circuit breaker '" + name + "' closed, probe succeeded");
+            changeState(State.CLOSED);
+            return;
+        }
+        if (state == State.CLOSED) {
+            addOutcome(true);
+        }
+    }
+
+    /**
+     * Record that a permitted call failed
+     * @param permit The permit acquirePermission() returned for the call
+     */
+    public synchronized void recordFailure(long permit) {
+        if (permit != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            System.out.println("Circuit breaker '" + name + "' opened again, probe failed");
+            open();
+            return;
+        }
+        if (state == State.OPEN) {
+            return;
+        }
+        addOutcome(false);
+        if (window.size() >= minimumCalls && getFailureRate() >= failureRateThreshold) {
+            System.out.printf("Circuit breaker '%s' opened: %d of the last %d calls failed%n",
+                    name, failuresInWindow, window.size());
+            open();
+        }
+    }
+
+    private void addOutcome(boolean success) {
+        window.addLast(success);
+        if (!success) {
+            failuresInWindow++;
+        }
+        if (window.size() > windowSize && !window.removeFirst()) {
+            failuresInWindow--;
+        }
+    }
+
+    private void open() {
+        changeState(State.OPEN);
+        openedAt = System.nanoTime();
+        timesOpened.increment();
+    }
+
+    /**
+     * Enter a new state and generation, starting with an empty window and no probe
+     */
+    private void changeState(State newState) {
+        state = newState;
+        generation++;
+        probeInFlight = false;
+        window.clear();
+        failuresInWindow = 0;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Failure rate of the calls currently in the window, 0 if it is empty
+     */
+    public synchronized double getFailureRate() {
+        return window.isEmpty() ? 0 : (double) failuresInWindow / window.size();
+    }
+
+    /**
+     * Number of calls rejected without being attempted
+     */
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getOpenedCount() {
+        return timesOpened.sum();
+    }
+
+    /**
+     * One-line summary of the breaker's state and counters
+     */
+    public String getStatsSummary() {
+        return String.format("Circuit breaker '%s': state=%s, opened=%d, rejected=%d",
+                name, getState(), getOpenedCount(), getRejectedCount());
+    }
+}
@@ -0,0 +1,141 @@
+package com.swaglabs.utils;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves browser driver binaries once per JVM
+ * The first call for a browser type runs bonigarcia's WebDriverManager (version detection,
+ * resolution cache, download); every later call reuses the memoized path. The download runs
+ * outside the map, so resolving one browser never blocks callers resolving another, and
+ * concurrent callers for the same browser wait for the first one's result.
+ *
+ * In offline mode (-Ddriver.offline=true) nothing is resolved over the network: the driver
+ * path must be supplied through the standard Selenium property, e.g. -Dwebdriver.chrome.driver=/opt/chromedriver
+ */
+public class DriverBinaryResolver {
+    private static final boolean OFFLINE_MODE = Boolean.parseBoolean(
+            System.getProperty("driver.offline", "false"));
+    // Path per browser type; the future completes with null if no path could be determined
+    private static final Map<WebDriverManager.BrowserType, CompletableFuture<String>> RESOLVED_PATHS =
+            new ConcurrentHashMap<>();
+
+    private DriverBinaryResolver() {
+    }
+
+    /**
+     * Make sure the driver binary for a browser type is available and registered with Selenium
+     * @param browserType The browser to resolve the driver for
+     * @return The driver binary path, or null for browsers with a built-in driver (Safari)
+     * and when the resolver reported no path, in which case Selenium locates the driver itself
+     */
+    public static String resolve(WebDriverManager.BrowserType browserType) {
+        String property = getDriverProperty(browserType);
+        if (property == null) {
+            return null;
+        }
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> existing = RESOLVED_PATHS.putIfAbsent(browserType, pending);
+        String path;
+        if (existing != null) {
+            path = await(existing);
+        } else {
+            try {
+                path = resolveOnce(browserType);
+            } catch (RuntimeException | Error e) {
+                // Forget the failure so a later call can try again
+                RESOLVED_PATHS.remove(browserType, pending);
+                pending.completeExceptionally(e);
+                throw e;
+            }
+            pending.complete(path);
+        }
+        if (path == null) {
+            System.out.println("No " + browserType + " driver path resolved; leaving " + property
+                    + " unset so Selenium locates the driver itself");
+            return null;
+        }
+        System.setProperty(property, path);
+        return path;
+    }
+
+    private static String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether a browser type has already been resolved in this JVM
+     */
+    public static boolean isResolved(WebDriverManager.BrowserType browserType) {
+        CompletableFuture<String> future = RESOLVED_PATHS.get(browserType);
+        return future != null && future.isDone() && !future.isCompletedExceptionally();
+    }
+
+    public static boolean isOfflineMode() {
+        return OFFLINE_MODE;
+    }
+
+    private static String resolveOnce(WebDriverManager.BrowserType browserType) {
+        String property = getDriverProperty(browserType);
+
+        // A pre-resolved local driver always wins and needs no network I/O
+        String presetPath = System.getProperty(property);
+        if (presetPath != null && new File(presetPath).canExecute()) {
+            System.out.println("Using pre-resolved " + browserType + " driver: " + presetPath);
+            return presetPath;
+        }
+        if (OFFLINE_MODE) {
+            throw new RuntimeException("Offline mode needs a local " + browserType
+                    + " driver; set -D" + property + "=<path to driver binary>");
+        }
+
+        io.github.bonigarcia.wdm.WebDriverManager manager = getManager(browserType);
+        manager.setup();
+        String resolvedPath = manager.getDownloadedDriverPath();
+        System.out.println("Resolved " + browserType + " driver: " + resolvedPath);
+        return resolvedPath;
+    }
+
+    private static io.github.bonigarcia.wdm.WebDriverManager getManager(WebDriverManager.BrowserType browserType) {
+        switch (browserType) {
+            case FIREFOX:
+                return io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver();
+            case EDGE:
+                return io.github.bonigarcia.wdm.WebDriverManager.edgedriver();
+            case CHROME:
+            default:
+                return io.github.bonigarcia.wdm.WebDriverManager.chromedriver();
+        }
+    }
+
+    /**
+     * Get the Selenium system property holding the driver path, or null if the browser needs none
+     */
+    private static String getDriverProperty(WebDriverManager.BrowserType browserType) {
+        switch (browserType) {
+            case FIREFOX:
+                return "webdriver.gecko.driver";
+            case EDGE:
+                return "webdriver.edge.driver";
+            case SAFARI:
+                // Safari's driver ships with macOS
+                return null;
+            case CHROME:
+            default:
+                return "webdriver.chrome.driver";
+        }
+    }
+}
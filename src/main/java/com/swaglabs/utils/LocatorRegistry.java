@@ -0,0 +1,141 @@
+package com.swaglabs.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Remembers which locator strategy last worked for each page action
+ * Strategies are tried winner-first, so a page that needs a fallback selector stops paying
+ * a wait timeout for the selectors that never match. Rankings are saved at JVM exit and
+ * loaded again on the next run (-Dlocator.cache, default logs/locator-ranking.properties).
+ */
+public class LocatorRegistry {
+    private static final Path CACHE_FILE = Paths.get(
+            System.getProperty("locator.cache", "logs/locator-ranking.properties"));
+    private static final Map<String, List<String>> RANKINGS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean DIRTY = new AtomicBoolean(false);
+
+    static {
+        load();
+        Runtime.getRuntime().addShutdownHook(new Thread(LocatorRegistry::save, "locator-registry-save"));
+    }
+
+    private LocatorRegistry() {
+    }
+
+    /**
+     * Run strategies in learned order until one succeeds
+     * A strategy fails by throwing or returning null; the first success is ranked first next time.
+     * @param key Page and action, e.g. "CartPage.checkout"
+     * @param strategies Named strategies in their default order
+     * @return The result of the first successful strategy
+     */
+    public static <T> T firstSuccessful(String key, Map<String, Callable<T>> strategies) {
+        RuntimeException failure = new RuntimeException("No locator strategy succeeded for " + key);
+        for (String name : getOrder(key, strategies.keySet())) {
+            try {
+                T result = strategies.get(name).call();
+                if (result != null) {
+                    recordSuccess(key, name);
+                    return result;
+                }
+            } catch (Exception e) {
+                System.out.println("Locator strategy '" + name + "' failed for " + key + ": " + e.getMessage());
+                failure.addSuppressed(e);
+            }
+        }
+        throw failure;
+    }
+
+    /**
+     * Get the order strategies will be tried in: learned winners first, then the rest in default order
+     */
+    public static List<String> getOrder(String key, Iterable<String> defaultOrder) {
+        List<String> available = new ArrayList<>();
+        defaultOrder.forEach(available::add);
+
+        List<String> order = new ArrayList<>();
+        for (String name : RANKINGS.getOrDefault(key, Collections.emptyList())) {
+            if (available.contains(name)) {
+                order.add(name);
+            }
+        }
+        for (String name : available) {
+            if (!order.contains(name)) {
+                order.add(name);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Rank a strategy first for a key
+     * @param key Page and action, e.g. "CartPage.checkout"
+     * @param winner The strategy that just succeeded
+     */
+    public static void recordSuccess(String key, String winner) {
+        List<String> previous = RANKINGS.get(key);
+        if (previous != null && !previous.isEmpty() && previous.get(0).equals(winner)) {
+            return;
+        }
+        RANKINGS.compute(key, (k, ranking) -> {
+            List<String> updated = new ArrayList<>();
+            updated.add(winner);
+            if (ranking != null) {
+                ranking.stream().filter(name -> !name.equals(winner)).forEach(updated::add);
+            }
+            return Collections.unmodifiableList(updated);
+        });
+        DIRTY.set(true);
+    }
+
+    private static void load() {
+        if (!Files.exists(CACHE_FILE)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+            properties.load(in);
+            for (String key : properties.stringPropertyNames()) {
+                RANKINGS.put(key, Collections.unmodifiableList(
+                        Arrays.asList(properties.getProperty(key).split(","))));
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load locator rankings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the rankings to the cache file if they changed during this run
+     */
+    public static void save() {
+        if (!DIRTY.getAndSet(false)) {
+            return;
+        }
+        Properties properties = new Properties();
+        RANKINGS.forEach((key, ranking) -> properties.setProperty(key, String.join(",", ranking)));
+        try {
+            if (CACHE_FILE.getParent() != null) {
+                Files.createDirectories(CACHE_FILE.getParent());
+            }
+            try (OutputStream out = Files.newOutputStream(CACHE_FILE)) {
+                properties.store(out, "Locator strategy rankings, most recent winner first");
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to save locator rankings: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.swaglabs.utils;
+
+import com.swaglabs.enums.UserType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+/**
+ * Time limits for user flows, declared per user type
+ * Limits are read from performance-budgets.properties on the classpath (or the file given by
+ * -Dperf.budgets) as "&lt;username&gt;.&lt;metric&gt;=&lt;ms&gt;", with "default.&lt;metric&gt;" used
+ * for user types without a limit of their own. Every measurement is attached to the running
+ * test's record in TestLogger, so the summary shows the actual value next to its limit.
+ *
+ * Usage:
+ * PerformanceBudget budget = PerformanceBudget.forUser(userType);
+ * ProductsPage productsPage = budget.measure("login", () -> loginPage.loginAs(...));
+ * budget.assertWithinBudgets();
+ */
+public class PerformanceBudget {
+    private static final String DEFAULT_RESOURCE = "performance-budgets.properties";
+    private static final String DEFAULT_PREFIX = "default";
+    private static final Properties LIMITS = loadLimits();
+
+    private final UserType userType;
+    private final Map<String, Double> measurements = new LinkedHashMap<>();
+    private final List<String> violations = new ArrayList<>();
+
+    private PerformanceBudget(UserType userType) {
+        this.userType = userType;
+    }
+
+    /**
+     * Get the budget of a user type; each test should use its own instance
+     * @param userType The user type whose limits apply
+     * @return A budget with no measurements yet
+     */
+    public static PerformanceBudget forUser(UserType userType) {
+        return new PerformanceBudget(userType);
+    }
+
+    private static Properties loadLimits() {
+        Properties limits = new Properties();
+        String file = System.getProperty("perf.budgets");
+        try (InputStream in = file != null
+                ? Files.newInputStream(Paths.get(file))
+                : PerformanceBudget.class.getClassLoader().getResourceAsStream(DEFAULT_RESOURCE)) {
+            if (in != null) {
+                limits.load(in);
+            } else {
+                System.err.println("No " + DEFAULT_RESOURCE + " on the classpath, measuring without limits");
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load performance budgets: " + e.getMessage(), e);
+        }
+        return limits;
+    }
+
+    /**
+     * Get the limit of a metric for this user type
+     * @param metric The metric name, e.g. "login"
+     * @return The limit in milliseconds, or -1 if none is configured
+     */
+    public long getLimitMillis(String metric) {
+        String value = LIMITS.getProperty(userType.getUsername() + "." + metric,
+                LIMITS.getProperty(DEFAULT_PREFIX + "." + metric));
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("Invalid budget for " + userType.getUsername() + "." + metric + ": " + value);
+        }
+    }
+
+    /**
+     * Run an action, time it and record the result against the metric's limit
+     * @param metric The metric name, e.g. "login"
+     * @param action The action to time
+     * @return The action's result
+     */
+    public <T> T measure(String metric, Supplier<T> action) {
+        long start = System.nanoTime();
+        T result = action.get();
+        record(metric, (System.nanoTime() - start) / 1_000_000.0);
+        return result;
+    }
+
+    /**
+     * Record a value measured elsewhere against the metric's limit
+     * @param metric The metric name
+     * @param actualMillis The measured value in milliseconds
+     * @return Whether the value is within the limit (always true without a limit)
+     */
+    public boolean record(String metric, double actualMillis) {
+        long limit = getLimitMillis(metric);
+        boolean pass = limit < 0 || actualMillis <= limit;
+        measurements.put(metric, actualMillis);
+
+        Map<String, Object> budgetResult = new LinkedHashMap<>();
+        budgetResult.put("metric", metric);
+        budgetResult.put("actualMs", Math.round(actualMillis * 100) / 100.0);
+        budgetResult.put("limitMs", limit);
+        budgetResult.put("pass", pass);
+        TestLogger.attachBudgetResult(userType, budgetResult);
+
+        if (!pass) {
+            violations.add(String.format("%s took %.0f ms (budget %d ms)", metric, actualMillis, limit));
+        }
+        return pass;
+    }
+
+    /**
+     * Get the last value recorded for a metric
+     * @param metric The metric name
+     * @return The value in milliseconds, or -1 if the metric wasn't measured
+     */
+    public double getMeasuredMillis(String metric) {
+        return measurements.getOrDefault(metric, -1.0);
+    }
+
+    /**
+     * Fail if any recorded measurement exceeded its limit
+     * @throws AssertionError listing every exceeded budget
+     */
+    public void assertWithinBudgets() {
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Performance budget exceeded for " + userType.getUsername()
+                    + ": " + String.join("; ", violations));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.swaglabs.utils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP reachability check for the sites the tests depend on, without launching a browser
+ * One HttpClient is shared for the whole JVM so connections are kept alive between checks,
+ * and each verdict is cached for -Dprobe.ttlSeconds (default 60) so test classes running in
+ * the same JVM don't probe again. Concurrent checks of the same URL wait for a single request,
+ * which is sent outside the cache's locks so checks of other URLs are never held up by it.
+ */
+public final class ReachabilityProbe {
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(Long.getLong("probe.ttlSeconds", 60L));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(Long.getLong("probe.timeoutSeconds", 10L));
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    // Pending or completed check per URL and marker; a stale entry is replaced by the caller that re-checks
+    private static final Map<String, CompletableFuture<Verdict>> CACHE = new ConcurrentHashMap<>();
+
+    private ReachabilityProbe() {
+    }
+
+    /**
+     * Outcome of a single probe
+     */
+    public static final class Verdict {
+        private final boolean reachable;
+        private final int status;
+        private final long durationMillis;
+        private final String detail;
+        private final long checkedAtNanos;
+
+        private Verdict(boolean reachable, int status, long durationMillis, String detail) {
+            this.reachable = reachable;
+            this.status = status;
+            this.durationMillis = durationMillis;
+            this.detail = detail;
+            this.checkedAtNanos = System.nanoTime();
+        }
+
+        public boolean isReachable() {
+            return reachable;
+        }
+
+        /**
+         * HTTP status of the final response, or 0 if no response was received
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        public long getDurationMillis() {
+            return durationMillis;
+        }
+
+        public String getDetail() {
+            return detail;
+        }
+
+        private boolean isFresh() {
+            return System.nanoTime() - checkedAtNanos < TTL_NANOS;
+        }
+
+        @Override
+        public String toString() {
+            return (reachable ? "SUCCESS" : "FAILED") + " (" + detail + ", " + durationMillis + " ms)";
+        }
+    }
+
+    /**
+     * Check a URL, reusing a verdict from the last TTL if there is one
+     * @param url The page to request
+     * @param marker Text the response body must contain, or null to accept any 2xx response
+     * @return The verdict
+     */
+    public static Verdict check(String url, String marker) {
+        String key = marker == null ? url : url + "\n" + marker;
+        while (true) {
+            CompletableFuture<Verdict> cached = CACHE.get(key);
+            if (cached != null && (!cached.isDone() || cached.join().isFresh())) {
+                return cached.join();
+            }
+            CompletableFuture<Verdict> pending = new CompletableFuture<>();
+            boolean owner = cached == null ? CACHE.putIfAbsent(key, pending) == null : CACHE.replace(key, cached, pending);
+            if (!owner) {
+                // Another thread started a check first; wait for that one instead
+                continue;
+            }
+            Verdict verdict;
+            try {
+                verdict = checkNow(url, marker);
+            } catch (RuntimeException | Error e) {
+                CACHE.remove(key, pending);
+                pending.completeExceptionally(e);
+                throw e;
+            }
+            pending.complete(verdict);
+            return verdict;
+        }
+    }
+
+    /**
+     * Check a URL without consulting the cache
+     * @param url The page to request
+     * @param marker Text the response body must contain, or null to accept any 2xx response
+     * @return The verdict
+     */
+    public static Verdict checkNow(String url, String marker) {
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Accept", "text/html")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            int status = response.statusCode();
+            if (status < 200 || status >= 300) {
+                return new Verdict(false, status, elapsed, "HTTP " + status);
+            }
+            if (marker != null && !response.body().contains(marker)) {
+                return new Verdict(false, status, elapsed, "HTTP " + status + " without expected markup");
+            }
+            return new Verdict(true, status, elapsed, "HTTP " + status);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Verdict(false, 0, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), "interrupted");
+        } catch (Exception e) {
+            return new Verdict(false, 0, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    e.getClass().getSimpleName() + (e.getMessage() == null ? "" : ": " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Drop every cached verdict
+     */
+    public static void invalidate() {
+        CACHE.clear();
+    }
+}
@@ -0,0 +1,172 @@
+package com.swaglabs.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed screenshot storage
+ * Each distinct image is stored once under blobs/ named by the SHA-256 of its bytes;
+ * index.csv maps every capture (timestamp, test name) to its blob. Repeated failures that
+ * produce the same screenshot therefore cost one index line instead of another PNG.
+ *
+ * New blobs can be re-encoded (-Dscreenshot.format=jpg) and/or downscaled (-Dscreenshot.scale=0.5);
+ * the conversion runs on the background writer thread. Both are checked once, when the class
+ * is loaded: a format ImageIO can't write falls back to PNG, and a scale outside (0, 1] to 1.
+ * An index line is only appended once its blob is on disk.
+ */
+public class ScreenshotStore {
+    private static final String FORMAT = validateFormat(System.getProperty("screenshot.format", "png").toLowerCase());
+    private static final double SCALE = validateScale(System.getProperty("screenshot.scale", "1.0"));
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path blobDirectory;
+    private final Path indexFile;
+    private final ScreenshotWriter writer;
+    // Blobs on disk or queued for writing; a blob whose write fails is removed again
+    private final Set<String> knownBlobs = ConcurrentHashMap.newKeySet();
+    private final UnaryOperator<byte[]> encoder;
+
+    /**
+     * Open a store rooted at a directory, indexing the blobs already in it
+     * @param rootDirectory Directory holding blobs/ and index.csv
+     */
+    public ScreenshotStore(Path rootDirectory) {
+        this.blobDirectory = rootDirectory.resolve("blobs");
+        this.indexFile = rootDirectory.resolve("index.csv");
+        this.writer = new ScreenshotWriter(blobDirectory);
+        this.encoder = "png".equals(FORMAT) && SCALE == 1.0 ? null : ScreenshotStore::reencode;
+
+        try (Stream<Path> blobs = Files.list(blobDirectory)) {
+            blobs.forEach(blob -> knownBlobs.add(blob.getFileName().toString()));
+        } catch (IOException e) {
+            System.err.println("Failed to index existing screenshots: " + e.getMessage());
+        }
+        if (!Files.exists(indexFile)) {
+            writer.append(indexFile, "timestamp,test,blob\n");
+        }
+    }
+
+    public ScreenshotStore(String rootDirectory) {
+        this(Paths.get(rootDirectory));
+    }
+
+    /**
+     * Store a screenshot, writing its image only if no identical one was stored before
+     * @param testName Name of the test the screenshot belongs to
+     * @param pngBytes The screenshot as PNG
+     * @return Path of the blob holding the image; a new blob is written in the background,
+     * so it may not exist until flush() returns
+     */
+    public Path store(String testName, byte[] pngBytes) {
+        String blobName = sha256(pngBytes) + "." + FORMAT;
+        Path blob = blobDirectory.resolve(blobName);
+
+        if (knownBlobs.add(blobName)) {
+            writer.submitIfAbsent(blobName.substring(0, blobName.length() - FORMAT.length() - 1), FORMAT, pngBytes,
+                    encoder, () -> knownBlobs.remove(blobName));
+        } else {
+            System.out.println("Screenshot identical to stored " + blobName + ", recording index entry only");
+        }
+        // Queued after the blob's write, so it is dropped if that write failed
+        writer.append(indexFile, LocalDateTime.now().format(TIMESTAMP_FORMAT) + ","
+                + csv(testName) + ",blobs/" + blobName + "\n", blob);
+        return blob;
+    }
+
+    /**
+     * Wait until every queued blob and index line is on disk
+     */
+    public boolean flush(long timeoutSeconds) {
+        return writer.flush(timeoutSeconds);
+    }
+
+    /**
+     * Check that ImageIO can write a format, falling back to PNG if it can't
+     */
+    private static String validateFormat(String format) {
+        if (ImageIO.getImageWritersByFormatName(format).hasNext()) {
+            return format;
+        }
+        System.err.println("No image writer for screenshot format '" + format + "', storing screenshots as png");
+        return "png";
+    }
+
+    /**
+     * Check that a scale factor is in (0, 1], falling back to 1 (no downscaling) if it isn't
+     */
+    private static double validateScale(String scale) {
+        try {
+            double value = Double.parseDouble(scale);
+            if (value > 0 && value <= 1) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        System.err.println("Screenshot scale must be greater than 0 and at most 1, got '" + scale
+                + "', storing screenshots at full size");
+        return 1.0;
+    }
+
+    private static String csv(String value) {
+        return value.contains(",") || value.contains("\"")
+                ? "\"" + value.replace("\"", "\"\"") + "\""
+                : value;
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Downscale and/or convert a PNG to the configured format
+     */
+    private static byte[] reencode(byte[] pngBytes) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(pngBytes));
+            int width = Math.max(1, (int) Math.round(source.getWidth() * SCALE));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * SCALE));
+
+            // JPEG has no alpha channel, so always draw onto an RGB canvas
+            BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = target.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+            graphics.dispose();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            if (!ImageIO.write(target, FORMAT, out)) {
+                throw new IOException("No image writer for format " + FORMAT);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to re-encode screenshot", e);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.swaglabs.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+/**
+ * Background writer for screenshots
+ * Test threads hand over PNG bytes and continue; a single daemon thread writes them to disk.
+ * The queue is bounded (-Dscreenshot.queue, default 32), so a test thread only blocks when
+ * the disk falls that far behind.
+ */
+public class ScreenshotWriter {
+    private static final int QUEUE_CAPACITY = Integer.getInteger("screenshot.queue", 32);
+
+    private final Path directory;
+    private final BlockingQueue<PendingWrite> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Set<String> reservedNames = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Thread writerThread;
+
+    /**
+     * Create a writer for a directory; the directory is created once, here
+     * @param directory Where screenshots are written
+     */
+    public ScreenshotWriter(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            System.err.println("Failed to create screenshots directory: " + e.getMessage());
+        }
+        this.writerThread = new Thread(this::drain, "screenshot-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(10), "screenshot-writer-flush"));
+    }
+
+    public ScreenshotWriter(String directory) {
+        this(Paths.get(directory));
+    }
+
+    /**
+     * Queue a screenshot for writing
+     * @param baseName File name without extension
+     * @param extension File extension without the dot, e.g. "png"
+     * @param data Image bytes
+     * @return The path the image will be written to
+     */
+    public Path submit(String baseName, String extension, byte[] data) {
+        return submit(baseName, extension, data, null);
+    }
+
+    /**
+     * Queue a screenshot for writing, converting it on the writer thread first
+     * @param baseName File name without extension
+     * @param extension File extension without the dot, e.g. "png"
+     * @param data Image bytes
+     * @param encoder Conversion applied on the writer thread (e.g. re-encoding), or null
+     * @return The path the image will be written to
+     */
+    public Path submit(String baseName, String extension, byte[] data, UnaryOperator<byte[]> encoder) {
+        Path target = directory.resolve(reserveName(baseName, extension));
+        enqueue(new PendingWrite(target, data, encoder, WriteMode.NEW_FILE, null, null));
+        return target;
+    }
+
+    /**
+     * Queue an image whose name identifies its content; it is skipped if a file of that name exists
+     * @param baseName File name without extension, e.g. the hash of the image
+     * @param extension File extension without the dot, e.g. "png"
+     * @param data Image bytes
+     * @param encoder Conversion applied on the writer thread (e.g. re-encoding), or null
+     * @param onFailure Run on the writer thread if the image couldn't be written, or null
+     * @return The path the image will be written to; it exists only once the write has completed
+     */
+    public Path submitIfAbsent(String baseName, String extension, byte[] data, UnaryOperator<byte[]> encoder,
+                               Runnable onFailure) {
+        Path target = directory.resolve(baseName + "." + extension);
+        enqueue(new PendingWrite(target, data, encoder, WriteMode.IF_ABSENT, null, onFailure));
+        return target;
+    }
+
+    /**
+     * Queue text to be appended to a file, in order with the screenshots queued before it
+     * @param file The file to append to (created if missing)
+     * @param text The text to append
+     */
+    public void append(Path file, String text) {
+        append(file, text, null);
+    }
+
+    /**
+     * Queue text to be appended to a file, dropped if another file doesn't exist by the time it is written
+     * Since writes run in queue order, requiring a screenshot queued earlier appends the text only
+     * once that screenshot is on disk.
+     * @param file The file to append to (created if missing)
+     * @param text The text to append
+     * @param requiredFile File that must exist for the text to be appended, or null
+     */
+    public void append(Path file, String text, Path requiredFile) {
+        enqueue(new PendingWrite(file, text.getBytes(StandardCharsets.UTF_8), null, WriteMode.APPEND,
+                requiredFile, null));
+    }
+
+    private void enqueue(PendingWrite write) {
+        inFlight.incrementAndGet();
+        try {
+            queue.put(write);
+        } catch (InterruptedException e) {
+            inFlight.decrementAndGet();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while queueing screenshot " + write.target, e);
+        }
+    }
+
+    /**
+     * Pick a file name no other screenshot in this run has claimed, without touching the disk
+     */
+    private String reserveName(String baseName, String extension) {
+        String name = baseName + "." + extension;
+        for (int suffix = 2; !reservedNames.add(name); suffix++) {
+            name = baseName + "-" + suffix + "." + extension;
+        }
+        return name;
+    }
+
+    /**
+     * Wait until every queued screenshot is on disk
+     * @param timeoutSeconds Maximum time to wait
+     * @return true if the queue drained in time
+     */
+    public boolean flush(long timeoutSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (inFlight.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                System.err.println(inFlight.get() + " screenshot(s) still pending after " + timeoutSeconds + "s");
+                return false;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getPendingCount() {
+        return inFlight.get();
+    }
+
+    private void drain() {
+        while (true) {
+            PendingWrite write;
+            try {
+                write = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                if (write.mode == WriteMode.APPEND) {
+                    if (write.requiredFile != null && !Files.exists(write.requiredFile)) {
+                        System.err.println("Not appending to " + write.target + ", " + write.requiredFile
+                                + " was not written");
+                    } else {
+                        Files.write(write.target, write.data, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    }
+                } else if (write.mode == WriteMode.IF_ABSENT && Files.exists(write.target)) {
+                    System.out.println("Screenshot already stored: " + write.target);
+                } else {
+                    byte[] data = write.encoder != null ? write.encoder.apply(write.data) : write.data;
+                    Path written = write.mode == WriteMode.IF_ABSENT
+                            ? writeIfAbsent(write.target, data)
+                            : writeNew(write.target, data);
+                    System.out.println("Screenshot saved: " + written);
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Failed to save screenshot " + write.target + ": " + e.getMessage());
+                if (write.mode == WriteMode.NEW_FILE) {
+                    // Nothing was written under the name, so a later screenshot may use it
+                    reservedNames.remove(write.target.getFileName().toString());
+                }
+                if (write.onFailure != null) {
+                    write.onFailure.run();
+                }
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Write a file unless it exists; a file of the same name has the same content
+     */
+    private static Path writeIfAbsent(Path target, byte[] data) throws IOException {
+        try {
+            Files.write(target, data, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        } catch (FileAlreadyExistsException e) {
+            // Written by another process since the check, which is just as good
+        }
+        return target;
+    }
+
+    /**
+     * Write without overwriting; a file left by an earlier run gets a numbered sibling instead
+     */
+    private static Path writeNew(Path target, byte[] data) throws IOException {
+        String fileName = target.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String base = dot < 0 ? fileName : fileName.substring(0, dot);
+        String extension = dot < 0 ? "" : fileName.substring(dot);
+
+        Path candidate = target;
+        for (int suffix = 2; ; suffix++) {
+            try {
+                Files.write(candidate, data, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                return candidate;
+            } catch (FileAlreadyExistsException e) {
+                candidate = target.resolveSibling(base + "-run" + suffix + extension);
+            }
+        }
+    }
+
+    private enum WriteMode {
+        // A file of its own, renamed if the name is taken
+        NEW_FILE,
+        // A content-addressed file, skipped if it exists
+        IF_ABSENT,
+        // Text appended to a file
+        APPEND
+    }
+
+    private static class PendingWrite {
+        private final Path target;
+        private final byte[] data;
+        private final UnaryOperator<byte[]> encoder;
+        private final WriteMode mode;
+        private final Path requiredFile;
+        private final Runnable onFailure;
+
+        PendingWrite(Path target, byte[] data, UnaryOperator<byte[]> encoder, WriteMode mode,
+                     Path requiredFile, Runnable onFailure) {
+            this.target = target;
+            this.data = data;
+            this.encoder = encoder;
+            this.mode = mode;
+            this.requiredFile = requiredFile;
+            this.onFailure = onFailure;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.swaglabs.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded HTTP server serving a local stand-in for the Swag Labs demo site
+ * The pages are rendered in the browser by standin/static/app.js with the same ids, classes
+ * and user faults as the public site, so runs are offline, at localhost latency and reproducible.
+ *
+ * Selected with -DbaseUrl=local (see WebDriverManager.getBaseUrl). The port is ephemeral unless
+ * -Dstandin.port is set, and performance_glitch_user waits -Dstandin.glitchDelay ms (default 3000)
+ * for the inventory page, like on the real site.
+ * Can also be run on its own for manual browsing:
+ * mvn exec:java -Dexec.mainClass="com.swaglabs.utils.SwagLabsStandIn" -Dstandin.port=8080
+ */
+public class SwagLabsStandIn {
+    private static final String RESOURCE_ROOT = "standin/";
+    private static final String SHELL = "index.html";
+    private static final Set<String> PAGES = new HashSet<>(Arrays.asList(
+            "/", "/index.html", "/inventory.html", "/inventory-item.html", "/cart.html",
+            "/checkout-step-one.html", "/checkout-step-two.html", "/checkout-complete.html"));
+    private static final String GLITCH_USER = "performance_glitch_user";
+    private static final String GLITCH_PAGE = "/inventory.html";
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8",
+            "svg", "image/svg+xml");
+
+    private static SwagLabsStandIn shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long glitchDelayMillis;
+    private final Map<String, byte[]> resources = new ConcurrentHashMap<>();
+
+    /**
+     * Start a stand-in server on the loopback interface
+     * @param port The port to listen on, 0 for any free port
+     * @param glitchDelayMillis Delay before performance_glitch_user receives the inventory page
+     */
+    public SwagLabsStandIn(int port, long glitchDelayMillis) throws IOException {
+        this.glitchDelayMillis = glitchDelayMillis;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        // Handlers may sleep for the glitch delay, so every request gets its own thread
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "swaglabs-standin-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        // The dispatcher thread inherits daemon status from the thread calling start(),
+        // so start from a daemon thread to let programs using the stand-in exit normally
+        Thread starter = new Thread(server::start, "swaglabs-standin-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop();
+            throw new IOException("Interrupted while starting the stand-in", e);
+        }
+    }
+
+    /**
+     * Start the JVM-wide stand-in on first use; it is stopped at JVM exit
+     * @return Base URL of the running stand-in
+     */
+    public static synchronized String startShared() {
+        if (shared == null) {
+            try {
+                shared = new SwagLabsStandIn(Integer.getInteger("standin.port", 0),
+                        Long.getLong("standin.glitchDelay", 3000L));
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to start the local Swag Labs stand-in: " + e.getMessage(), e);
+            }
+            SwagLabsStandIn server = shared;
+            Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "swaglabs-standin-stop"));
+            System.out.println("Local Swag Labs stand-in running at " + server.getBaseUrl());
+        }
+        return shared.getBaseUrl();
+    }
+
+    /**
+     * Base URL of this server, without a trailing slash
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (!"GET".equals(exchange.getRequestMethod()) && !"HEAD".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "text/plain", "Method not allowed".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            if (PAGES.contains(path)) {
+                if (GLITCH_PAGE.equals(path) && isGlitchUser(exchange)) {
+                    sleep(glitchDelayMillis);
+                }
+                exchange.getResponseHeaders().set("Cache-Control", "no-store");
+                send(exchange, 200, CONTENT_TYPES.get("html"), resource(SHELL));
+                return;
+            }
+
+            String name = path.substring(1);
+            if (name.isEmpty() || name.endsWith("/") || name.contains("..")) {
+                send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            byte[] body = resource(name);
+            if (body == null && name.startsWith("static/img/") && name.endsWith(".svg")) {
+                body = placeholderImage(name.substring("static/img/".length(), name.length() - ".svg".length()));
+            }
+            if (body == null) {
+                send(exchange, 404, "text/plain", "Not found".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+            send(exchange, 200, CONTENT_TYPES.getOrDefault(extension(name), "application/octet-stream"), body);
+        } catch (RuntimeException e) {
+            System.err.println("Stand-in request failed: " + e.getMessage());
+            send(exchange, 500, "text/plain", "Internal error".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static boolean isGlitchUser(HttpExchange exchange) {
+        String cookies = String.join("; ", exchange.getRequestHeaders().getOrDefault("Cookie", List.of()));
+        for (String cookie : cookies.split(";\\s*")) {
+            if (cookie.equals("session-username=" + GLITCH_USER)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Read a classpath resource below standin/, cached after the first read
+     * @return The resource bytes, or null if there is no such resource
+     */
+    private byte[] resource(String name) {
+        byte[] cached = resources.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        try (InputStream in = SwagLabsStandIn.class.getClassLoader().getResourceAsStream(RESOURCE_ROOT + name)) {
+            if (in == null) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            in.transferTo(out);
+            byte[] bytes = out.toByteArray();
+            resources.put(name, bytes);
+            return bytes;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read stand-in resource " + name, e);
+        }
+    }
+
+    /**
+     * Product images are drawn as labelled tiles rather than shipped as files
+     */
+    private static byte[] placeholderImage(String name) {
+        String label = name.replaceAll("[^a-zA-Z0-9-]", "");
+        String color = String.format("#%06x", (label.hashCode() & 0x7f7f7f) + 0x404040);
+        String svg = "<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"240\" height=\"300\" viewBox=\"0 0 240 300\">"
+                + "<rect width=\"240\" height=\"300\" fill=\"" + color + "\"/>"
+                + "<text x=\"120\" y=\"155\" font-family=\"Arial\" font-size=\"18\" fill=\"#fff\" text-anchor=\"middle\">"
+                + label + "</text></svg>";
+        return svg.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String extension(String name) {
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        boolean head = "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(status, head ? -1 : body.length);
+        if (!head) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        startShared();
+        System.out.println("Press Ctrl+C to stop");
+        Thread.currentThread().join();
+    }
+}
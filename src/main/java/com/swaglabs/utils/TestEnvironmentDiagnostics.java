@@ -1,19 +1,72 @@
 package com.swaglabs.utils;
 
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
 import java.io.File;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Diagnostic utility to check environment setup before running tests
+ * The checks run concurrently, each with its own timeout and all within -Ddiagnostics.deadlineSeconds (default 120).
+ * Results are written to a JSON report (-Ddiagnostics.report, default logs/diagnostics-report.json).
+ * A report younger than -Ddiagnostics.ttlSeconds (default 600) that was made for the same base URL and browser
+ * is reused instead of running the checks again; -Ddiagnostics.refresh=true forces a new run.
+ * WebDriverManager reads a fresh cached report before its first navigation to the base URL
+ * and warns about failed reachability or browser launch checks.
  */
 public class TestEnvironmentDiagnostics {
 
     private static final String[] URLS_TO_CHECK = {
-        "https://www.saucedemo.com",
+        WebDriverManager.getBaseUrl(),
         "https://www.google.com"
     };
+    private static final WebDriverManager.BrowserType[] DRIVERS_TO_CHECK = {
+        WebDriverManager.BrowserType.CHROME,
+        WebDriverManager.BrowserType.FIREFOX,
+        WebDriverManager.BrowserType.EDGE
+    };
+
+    private static final Path REPORT_FILE = Paths.get(
+            System.getProperty("diagnostics.report", "logs/diagnostics-report.json"));
+    private static final long REPORT_TTL_MILLIS = TimeUnit.SECONDS.toMillis(Long.getLong("diagnostics.ttlSeconds", 600L));
+    private static final long DEADLINE_SECONDS = Long.getLong("diagnostics.deadlineSeconds", 120L);
+    private static final Json JSON = new Json();
+
+    // Per-check timeouts (seconds); driver setup may have to download a driver
+    private static final long LOCAL_CHECK_TIMEOUT = 5;
+    private static final long NETWORK_CHECK_TIMEOUT = 15;
+    private static final long DRIVER_SETUP_TIMEOUT = 90;
+    private static final long BROWSER_LAUNCH_TIMEOUT = 90;
+    
+    // Browsers are launched on their own daemon threads so a timed-out check can still quit them later
+    private static final ExecutorService LAUNCHER = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "diagnostics-browser-launch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Launches whose check timed out; main() waits for them so their browsers are quit before exit
+    private static final Set<CompletableFuture<?>> LATE_LAUNCHES = ConcurrentHashMap.newKeySet();
 
     /**
      * Main method to run diagnostics
@@ -21,210 +74,458 @@ public class TestEnvironmentDiagnostics {
     public static void main(String[] args) {
         System.out.println("=== Swag Labs Test Environment Diagnostics ===");
         
-        checkJavaVersion();
-        checkOperatingSystem();
-        checkNetworkConnectivity();
-        checkWebDriverSetup();
-        checkScreenshotDirectory();
-        checkBrowserLaunch();
+        Optional<Map<String, Object>> cached = Boolean.getBoolean("diagnostics.refresh")
+                ? Optional.empty() : loadCachedReport();
+        if (cached.isPresent()) {
+            System.out.println("Using cached report from " + cached.get().get("generatedAt")
+                    + " (" + REPORT_FILE + "), run with -Ddiagnostics.refresh=true to check again");
+        }
+        printReport(cached.isPresent() ? cached.get() : runAndSave());
+        awaitLateLaunches();
         
         System.out.println("\n=== Diagnostics Complete ===");
     }
     
     /**
-     * Check Java version
+     * Wait for browsers that finished launching after their check timed out to be quit
      */
-    private static void checkJavaVersion() {
-        System.out.println("\n[Checking Java Version]");
-        String javaVersion = System.getProperty("java.version");
-        String javaVendor = System.getProperty("java.vendor");
-        System.out.println("Java Version: " + javaVersion);
-        System.out.println("Java Vendor: " + javaVendor);
-        
+    private static void awaitLateLaunches() {
+        if (LATE_LAUNCHES.isEmpty()) {
+            return;
+        }
+        System.out.println("Waiting for " + LATE_LAUNCHES.size() + " late browser launch(es) to be cleaned up...");
         try {
-            double version = Double.parseDouble(
-                javaVersion.substring(0, javaVersion.indexOf(".", javaVersion.indexOf(".") + 1))
-            );
-            System.out.println("Java Version Check: " + (version >= 11 ? "PASS" : "FAIL (Requires Java 11+)"));
+            CompletableFuture.allOf(LATE_LAUNCHES.toArray(new CompletableFuture<?>[0]))
+                    .get(BROWSER_LAUNCH_TIMEOUT, TimeUnit.SECONDS);
         } catch (Exception e) {
-            System.out.println("Java Version Check: UNKNOWN (Could not parse version number)");
+            System.err.println("Browser launch still pending at exit, it may have to be closed by hand: " + e);
         }
     }
     
     /**
-     * Check operating system
+     * Get the diagnostics report for this environment, reusing the cached one if it is still fresh
+     * @return The report, as written to the JSON file
      */
-    private static void checkOperatingSystem() {
-        System.out.println("\n[Checking Operating System]");
-        String os = System.getProperty("os.name");
-        String osVersion = System.getProperty("os.version");
-        String osArch = System.getProperty("os.arch");
-        
-        System.out.println("Operating System: " + os);
-        System.out.println("Version: " + osVersion);
-        System.out.println("Architecture: " + osArch);
+    public static Map<String, Object> getReport() {
+        return loadCachedReport().orElseGet(TestEnvironmentDiagnostics::runAndSave);
     }
     
     /**
-     * Check network connectivity to required sites
+     * Failed checks in the cached report that concern running tests: connectivity to the base URL
+     * and launching the configured browser. Never runs the checks itself.
+     * @return One "check: status" line per failed check, followed by its output; empty if there is
+     * no fresh report or those checks passed
      */
-    private static void checkNetworkConnectivity() {
-        System.out.println("\n[Checking Network Connectivity]");
-        
-        for (String urlString : URLS_TO_CHECK) {
-            try {
-                URL url = new URL(urlString);
-                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-                connection.setRequestMethod("HEAD");
-                connection.setConnectTimeout(5000);
-                int responseCode = connection.getResponseCode();
-                
-                System.out.println(urlString + ": " + 
-                    (responseCode >= 200 && responseCode < 400 ? 
-                     "PASS (Response Code: " + responseCode + ")" : 
-                     "FAIL (Response Code: " + responseCode + ")"));
-                
-            } catch (Exception e) {
-                System.out.println(urlString + ": FAIL (Error: " + e.getMessage() + ")");
+    @SuppressWarnings("unchecked")
+    public static List<String> getCachedTestBlockers() {
+        List<String> blockers = new ArrayList<>();
+        loadCachedReport().ifPresent(report -> {
+            for (Map<String, Object> check : (List<Map<String, Object>>) report.get("checks")) {
+                boolean relevant = WebDriverManager.getBaseUrl().equals(check.get("name"))
+                        || "Browser Launch".equals(check.get("name"));
+                if (relevant && !"PASS".equals(check.get("status"))) {
+                    blockers.add(check.get("name") + ": " + check.get("status"));
+                    for (Object line : (List<Object>) check.get("lines")) {
+                        blockers.add("  " + line);
+                    }
+                }
             }
-        }
+        });
+        return blockers;
     }
     
     /**
-     * Check WebDriver setup
-     */    private static void checkWebDriverSetup() {
-        System.out.println("\n[Checking WebDriver Setup]");
-        
-        // Check Chrome setup
+     * Load the JSON report if it is younger than the TTL and was made for the current base URL and browser
+     * A report that can't be parsed or lacks the expected fields counts as missing.
+     * @return The cached report, or empty if there is no usable one
+     */
+    public static Optional<Map<String, Object>> loadCachedReport() {
+        if (!Files.isRegularFile(REPORT_FILE)) {
+            return Optional.empty();
+        }
         try {
-            io.github.bonigarcia.wdm.WebDriverManager.chromedriver().setup();
-            System.out.println("Chrome WebDriver Setup: PASS");
-            
-            String chromePath = getBrowserPath("chrome");
-            if (chromePath != null) {
-                System.out.println("Chrome Found: " + chromePath);
-            } else {
-                System.out.println("Chrome Not Found in common locations. Test execution with Chrome may fail.");
+            Map<String, Object> report = JSON.toType(
+                    new String(Files.readAllBytes(REPORT_FILE), StandardCharsets.UTF_8), Json.MAP_TYPE);
+            if (!isWellFormed(report)) {
+                System.err.println("Ignoring malformed diagnostics report " + REPORT_FILE);
+                return Optional.empty();
             }
+            Object generatedAt = report.get("generatedAtMillis");
+            boolean fresh = generatedAt instanceof Number
+                    && System.currentTimeMillis() - ((Number) generatedAt).longValue() < REPORT_TTL_MILLIS;
+            boolean sameTarget = Objects.equals(report.get("baseUrl"), getConfiguredBaseUrl())
+                    && Objects.equals(report.get("browser"), getConfiguredBrowser());
+            return fresh && sameTarget ? Optional.of(report) : Optional.empty();
         } catch (Exception e) {
-            System.out.println("Chrome WebDriver Setup: FAIL (" + e.getMessage() + ")");
+            System.err.println("Ignoring unreadable diagnostics report " + REPORT_FILE + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    /**
+     * Check that a parsed report has the shape printReport() and getCachedTestBlockers() rely on
+     */
+    private static boolean isWellFormed(Map<String, Object> report) {
+        if (report == null || !(report.get("status") instanceof String) || !(report.get("checks") instanceof List)) {
+            return false;
+        }
+        for (Object check : (List<?>) report.get("checks")) {
+            if (!(check instanceof Map)) {
+                return false;
+            }
+            Map<?, ?> fields = (Map<?, ?>) check;
+            if (!(fields.get("section") instanceof String) || !(fields.get("name") instanceof String)
+                    || !(fields.get("status") instanceof String) || !(fields.get("lines") instanceof List)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static Map<String, Object> runAndSave() {
+        Map<String, Object> report = runChecks();
+        try {
+            if (REPORT_FILE.getParent() != null) {
+                Files.createDirectories(REPORT_FILE.getParent());
+            }
+            Files.write(REPORT_FILE, JSON.toJson(report).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            System.err.println("Failed to write diagnostics report " + REPORT_FILE + ": " + e.getMessage());
+        }
+        return report;
+    }
+    
+    /**
+     * Run every check on its own thread and collect the results in check order
+     * A check that exceeds its timeout, or the overall deadline, is cancelled and reported as TIMEOUT.
+     */
+    private static Map<String, Object> runChecks() {
+        List<Check> checks = createChecks();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(checks.size(), runnable -> {
+            Thread thread = new Thread(runnable, "diagnostics-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(DEADLINE_SECONDS);
+        List<CheckOutput> outputs = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (Check check : checks) {
+            CheckOutput output = new CheckOutput();
+            outputs.add(output);
+            futures.add(executor.submit(() -> {
+                try {
+                    check.body.run(output);
+                } finally {
+                    output.finish();
+                }
+                return null;
+            }));
         }
         
-        // Check Firefox setup
+        List<Map<String, Object>> results = new ArrayList<>();
+        int failed = 0;
         try {
-            io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver().setup();
-            System.out.println("Firefox WebDriver Setup: PASS");
-            
-            String firefoxPath = getBrowserPath("firefox");
-            if (firefoxPath != null) {
-                System.out.println("Firefox Found: " + firefoxPath);
-            } else {
-                System.out.println("Firefox Not Found in common locations. Test execution with Firefox may fail.");
+            for (int i = 0; i < checks.size(); i++) {
+                Check check = checks.get(i);
+                CheckOutput output = outputs.get(i);
+                long checkDeadline = Math.min(start + TimeUnit.SECONDS.toNanos(check.timeoutSeconds), deadline);
+                String status;
+                try {
+                    futures.get(i).get(Math.max(0, checkDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    status = output.hasFailed() ? "FAIL" : "PASS";
+                } catch (TimeoutException e) {
+                    futures.get(i).cancel(true);
+                    output.result(check.name, false, "timed out after "
+                            + TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) + " s");
+                    status = "TIMEOUT";
+                } catch (ExecutionException e) {
+                    output.result(check.name, false, String.valueOf(e.getCause().getMessage()));
+                    status = "FAIL";
+                }
+                if (!"PASS".equals(status)) {
+                    failed++;
+                }
+                
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("section", check.section);
+                result.put("name", check.name);
+                result.put("status", status);
+                result.put("durationMs", TimeUnit.NANOSECONDS.toMillis(
+                        (output.getFinishedAt() > 0 ? output.getFinishedAt() : System.nanoTime()) - start));
+                result.put("lines", output.getLines());
+                results.add(result);
             }
-        } catch (Exception e) {
-            System.out.println("Firefox WebDriver Setup: FAIL (" + e.getMessage() + ")");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while running diagnostics", e);
+        } finally {
+            executor.shutdownNow();
         }
         
-        // Check Edge setup
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("generatedAtMillis", System.currentTimeMillis());
+        report.put("baseUrl", getConfiguredBaseUrl());
+        report.put("browser", getConfiguredBrowser());
+        report.put("status", failed == 0 ? "PASS" : "FAIL");
+        report.put("failedChecks", failed);
+        report.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        report.put("checks", results);
+        return report;
+    }
+    
+    /**
+     * Print a report in check order, grouped by section
+     */
+    @SuppressWarnings("unchecked")
+    private static void printReport(Map<String, Object> report) {
+        String section = null;
+        for (Map<String, Object> check : (List<Map<String, Object>>) report.get("checks")) {
+            if (!check.get("section").equals(section)) {
+                section = (String) check.get("section");
+                System.out.println("\n[Checking " + section + "]");
+            }
+            for (Object line : (List<Object>) check.get("lines")) {
+                System.out.println(line);
+            }
+        }
+        System.out.println("\nOverall: " + report.get("status") + " (" + report.get("failedChecks")
+                + " failed checks, " + report.get("durationMs") + " ms)");
+    }
+    
+    private static List<Check> createChecks() {
+        List<Check> checks = new ArrayList<>();
+        checks.add(new Check("Java Version", "Java Version Check", LOCAL_CHECK_TIMEOUT,
+                TestEnvironmentDiagnostics::checkJavaVersion));
+        checks.add(new Check("Operating System", "Operating System", LOCAL_CHECK_TIMEOUT,
+                TestEnvironmentDiagnostics::checkOperatingSystem));
+        for (String url : URLS_TO_CHECK) {
+            checks.add(new Check("Network Connectivity", url, NETWORK_CHECK_TIMEOUT,
+                    output -> checkNetworkConnectivity(url, output)));
+        }
+        for (WebDriverManager.BrowserType browserType : DRIVERS_TO_CHECK) {
+            checks.add(new Check("WebDriver Setup", browserType + " WebDriver Setup", DRIVER_SETUP_TIMEOUT,
+                    output -> checkWebDriverSetup(browserType, output)));
+        }
+        checks.add(new Check("Screenshot Directory", "Screenshot Directory", LOCAL_CHECK_TIMEOUT,
+                TestEnvironmentDiagnostics::checkScreenshotDirectory));
+        checks.add(new Check("Browser Launch", "Browser Launch", BROWSER_LAUNCH_TIMEOUT,
+                TestEnvironmentDiagnostics::checkBrowserLaunch));
+        return checks;
+    }
+    
+    private static String getConfiguredBaseUrl() {
+        return System.getProperty("baseUrl", WebDriverManager.getBaseUrl());
+    }
+    
+    private static String getConfiguredBrowser() {
+        return System.getProperty("browser", "chrome");
+    }
+    
+    /**
+     * Check Java version
+     */
+    private static void checkJavaVersion(CheckOutput output) {
+        String javaVersion = System.getProperty("java.version");
+        String javaVendor = System.getProperty("java.vendor");
+        output.info("Java Version: " + javaVersion);
+        output.info("Java Vendor: " + javaVendor);
+        
+        try {
+            int major = Integer.parseInt(javaVersion.startsWith("1.")
+                    ? javaVersion.substring(2, 3) : javaVersion.split("[.+-]")[0]);
+            output.result("Java Version Check", major >= 11, major >= 11 ? null : "Requires Java 11+");
+        } catch (Exception e) {
+            output.info("Java Version Check: UNKNOWN (Could not parse version number)");
+        }
+    }
+    
+    /**
+     * Check operating system
+     */
+    private static void checkOperatingSystem(CheckOutput output) {
+        output.info("Operating System: " + System.getProperty("os.name"));
+        output.info("Version: " + System.getProperty("os.version"));
+        output.info("Architecture: " + System.getProperty("os.arch"));
+    }
+    
+    /**
+     * Check network connectivity to a required site
+     */
+    private static void checkNetworkConnectivity(String url, CheckOutput output) {
+        ReachabilityProbe.Verdict verdict = ReachabilityProbe.checkNow(url, null);
+        output.result(url, verdict.isReachable(), verdict.getDetail() + ", " + verdict.getDurationMillis() + " ms");
+    }
+    
+    /**
+     * Check WebDriver setup for one browser
+     */
+    private static void checkWebDriverSetup(WebDriverManager.BrowserType browserType, CheckOutput output) {
+        String label = browserType.name().charAt(0) + browserType.name().substring(1).toLowerCase();
         try {
-            io.github.bonigarcia.wdm.WebDriverManager.edgedriver().setup();
-            System.out.println("Edge WebDriver Setup: PASS");
+            String driverPath = DriverBinaryResolver.resolve(browserType);
+            output.result(label + " WebDriver Setup", true, driverPath);
             
-            String edgePath = getBrowserPath("edge");
-            if (edgePath != null) {
-                System.out.println("Edge Found: " + edgePath);
+            String browserPath = getBrowserPath(browserType.name());
+            if (browserPath != null) {
+                output.info(label + " Found: " + browserPath);
             } else {
-                System.out.println("Edge Not Found in common locations. Test execution with Edge may fail.");
+                output.info(label + " Not Found in common locations. Test execution with " + label + " may fail.");
             }
         } catch (Exception e) {
-            System.out.println("Edge WebDriver Setup: FAIL (" + e.getMessage() + ")");
+            output.result(label + " WebDriver Setup", false, e.getMessage());
         }
     }
     
     /**
      * Check if the screenshots directory can be created/written
      */
-    private static void checkScreenshotDirectory() {
-        System.out.println("\n[Checking Screenshot Directory]");
+    private static void checkScreenshotDirectory(CheckOutput output) {
         File screenshotsDir = new File("test-screenshots");
         
         if (!screenshotsDir.exists()) {
-            boolean created = screenshotsDir.mkdirs();
-            System.out.println("Creating directory: " + (created ? "PASS" : "FAIL"));
+            output.result("Creating directory", screenshotsDir.mkdirs(), null);
         } else {
-            System.out.println("Directory exists: PASS");
+            output.result("Directory exists", true, null);
         }
         
-        boolean canWrite = screenshotsDir.canWrite();
-        System.out.println("Directory writable: " + (canWrite ? "PASS" : "FAIL"));
+        output.result("Directory writable", screenshotsDir.canWrite(), null);
     }
-      /**
-     * Check if browser can be launched
+    
+    /**
+     * Check if the configured browser can be launched
      */
-    private static void checkBrowserLaunch() {
-        System.out.println("\n[Checking Browser Launch]");
-        
+    private static void checkBrowserLaunch(CheckOutput output) {
         // Get currently configured browser type
-        String configuredBrowser = System.getProperty("browser", "chrome");
-        System.out.println("Currently configured browser: " + configuredBrowser);
+        String configuredBrowser = getConfiguredBrowser();
+        output.info("Currently configured browser: " + configuredBrowser);
         
         // Try to launch the configured browser
-        checkSpecificBrowserLaunch(configuredBrowser);
+        checkSpecificBrowserLaunch(configuredBrowser, output);
     }
     
     /**
      * Check if a specific browser can be launched
      * @param browserName The name of the browser to check
      */
-    private static void checkSpecificBrowserLaunch(String browserName) {
+    private static void checkSpecificBrowserLaunch(String browserName, CheckOutput output) {
         // Determine the browser type to use
         WebDriverManager.BrowserType browserType;
+        switch (browserName.toLowerCase()) {
+            case "firefox":
+                browserType = WebDriverManager.BrowserType.FIREFOX;
+                break;
+            case "edge":
+                browserType = WebDriverManager.BrowserType.EDGE;
+                break;
+            case "safari":
+                browserType = WebDriverManager.BrowserType.SAFARI;
+                break;
+            case "chrome":
+            default:
+                browserType = WebDriverManager.BrowserType.CHROME;
+        }
+        
+        output.info("Testing " + browserType + " browser launch...");
+        
+        // Launch on a separate thread: if this check times out, the browser is quit once the launch finishes
+        CompletableFuture<WebDriver> launch = CompletableFuture.supplyAsync(
+                () -> WebDriverManager.createNewDriver(browserType), LAUNCHER);
+        WebDriver driver = null;
         try {
-            switch (browserName.toLowerCase()) {
-                case "firefox":
-                    browserType = WebDriverManager.BrowserType.FIREFOX;
-                    break;
-                case "edge":
-                    browserType = WebDriverManager.BrowserType.EDGE;
-                    break;
-                case "safari":
-                    browserType = WebDriverManager.BrowserType.SAFARI;
-                    break;
-                case "chrome":
-                default:
-                    browserType = WebDriverManager.BrowserType.CHROME;
+            try {
+                driver = launch.get();
+            } catch (InterruptedException e) {
+                LATE_LAUNCHES.add(launch.thenAccept(late -> {
+                    late.quit();
+                    System.out.println("Quit " + browserType + " browser that launched after its check timed out");
+                }));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
             }
+            output.result(browserType + " Launch", true, null);
             
-            System.out.println("Testing " + browserType + " browser launch...");
-            
-            // Try to launch the browser
-            WebDriver driver = null;
             try {
-                driver = WebDriverManager.createNewDriver(browserType);
-                System.out.println(browserType + " Launch: PASS");
-                
+                driver.get("about:blank");
+                output.result("Page Load", true, null);
+            } catch (Exception e) {
+                output.result("Page Load", false, e.getMessage());
+            }
+        } catch (Exception e) {
+            output.result(browserType + " Launch", false, e.getMessage());
+        } finally {
+            if (driver != null) {
                 try {
-                    driver.get("about:blank");
-                    System.out.println("Page Load: PASS");
+                    driver.quit();
+                    output.result("Browser Quit", true, null);
                 } catch (Exception e) {
-                    System.out.println("Page Load: FAIL (" + e.getMessage() + ")");
-                }
-            } catch (Exception e) {
-                System.out.println(browserType + " Launch: FAIL (" + e.getMessage() + ")");
-            } finally {
-                if (driver != null) {
-                    try {
-                        driver.quit();
-                        System.out.println("Browser Quit: PASS");
-                    } catch (Exception e) {
-                        System.out.println("Browser Quit: FAIL (" + e.getMessage() + ")");
-                    }
+                    output.result("Browser Quit", false, e.getMessage());
                 }
             }
-        } catch (Exception e) {
-            System.out.println("Error checking browser launch: " + e.getMessage());
         }
     }
+    
+    /**
+     * A diagnostic check and the limit on how long it may run
+     */
+    private static final class Check {
+        private final String section;
+        private final String name;
+        private final long timeoutSeconds;
+        private final CheckBody body;
+        
+        Check(String section, String name, long timeoutSeconds, CheckBody body) {
+            this.section = section;
+            this.name = name;
+            this.timeoutSeconds = timeoutSeconds;
+            this.body = body;
+        }
+    }
+    
+    @FunctionalInterface
+    private interface CheckBody {
+        void run(CheckOutput output) throws Exception;
+    }
+    
+    /**
+     * Lines written by one check; buffered so concurrent checks print in a stable order
+     */
+    private static final class CheckOutput {
+        private final List<String> lines = new ArrayList<>();
+        private boolean failed;
+        private long finishedAt;
+        
+        synchronized void info(String line) {
+            lines.add(line);
+        }
+        
+        synchronized void result(String label, boolean pass, String detail) {
+            failed |= !pass;
+            info(label + ": " + (pass ? "PASS" : "FAIL") + (detail == null ? "" : " (" + detail + ")"));
+        }
+        
+        synchronized boolean hasFailed() {
+            return failed;
+        }
+        
+        synchronized void finish() {
+            finishedAt = System.nanoTime();
+        }
+        
+        synchronized long getFinishedAt() {
+            return finishedAt;
+        }
+        
+        synchronized List<String> getLines() {
+            return new ArrayList<>(lines);
+        }
+    }
+    
       /**
      * Try to find browser installation path
      * @param browserType The browser type to find (chrome, firefox, edge, safari)
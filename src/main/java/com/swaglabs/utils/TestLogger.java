@@ -9,20 +9,42 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Utility class for test logging
+ * Safe to use from parallel test threads: results are kept in one concurrent map per
+ * user type (indexed by ordinal) with atomic PASS/FAIL counters, so writers never block each other
+ * and readers never block writers. Each result is also appended to the results journal as soon as
+ * its test ends. The markdown summary is only rendered by generateTestSummary, off the test path.
+ *
+ * Tests and their steps are timed with System.nanoTime: a test runs from logTestStart to
+ * logTestEnd, and each step runs until the next step (or the end of the test) on the same thread.
+ * Browser timing collected by page objects and PerformanceBudget measurements taken during a
+ * test are attached to its record as well.
  */
 public class TestLogger {
     private static final Logger MAIN_LOGGER = LogManager.getLogger(TestLogger.class);
     private static final String LOG_DIR = "logs";
-    private static final Map<UserType, Logger> userLoggers = new HashMap<>();
-    private static final Map<UserType, Map<String, TestResult>> testResults = new HashMap<>();
+    private static final UserType[] USER_TYPES = UserType.values();
+    private static final Logger[] userLoggers = new Logger[USER_TYPES.length];
+    @SuppressWarnings("unchecked")
+    private static final Map<String, TestResult>[] testResults = new Map[USER_TYPES.length];
+    private static final AtomicIntegerArray passCounts = new AtomicIntegerArray(USER_TYPES.length);
+    private static final AtomicIntegerArray failCounts = new AtomicIntegerArray(USER_TYPES.length);
+    // Results are streamed here as each test ends, so they survive a crashed run
+    private static final TestResultsJournal RESULTS_JOURNAL =
+            new TestResultsJournal(Paths.get(LOG_DIR, "test-results.jsonl"));
+    private static final Path SUMMARY_FILE = Paths.get(LOG_DIR, "test-summary.md");
+    // Timer of the test running on the current thread, started by logTestStart
+    private static final ThreadLocal<TestTimer> CURRENT_TIMER = new ThreadLocal<>();
 
     static {
         // Create the logs directory if it doesn't exist
@@ -35,11 +57,17 @@ public class TestLogger {
             MAIN_LOGGER.error("Failed to create logs directory: {}", e.getMessage());
         }
         
+        try {
+            RESULTS_JOURNAL.start();
+        } catch (IOException e) {
+            MAIN_LOGGER.error("Failed to start results journal: {}", e.getMessage());
+        }
+        
         // Initialize user loggers
-        for (UserType userType : UserType.values()) {
-            userLoggers.put(userType, 
-                LogManager.getLogger("com.swaglabs.user." + userType.name()));
-            testResults.put(userType, new HashMap<>());
+        for (UserType userType : USER_TYPES) {
+            userLoggers[userType.ordinal()] = 
+                LogManager.getLogger("com.swaglabs.user." + userType.name());
+            testResults[userType.ordinal()] = new ConcurrentHashMap<>();
         }
     }
     
@@ -49,7 +77,7 @@ public class TestLogger {
      * @return The logger for the user type
      */
     public static Logger getUserLogger(UserType userType) {
-        return userLoggers.get(userType);
+        return userLoggers[userType.ordinal()];
     }
     
     /**
@@ -62,6 +90,7 @@ public class TestLogger {
         logger.info("======================================================");
         logger.info("START TEST: {} for {}", testName, userType.getUsername());
         logger.info("======================================================");
+        CURRENT_TIMER.set(new TestTimer(userType, testName));
     }
     
     /**
@@ -75,15 +104,95 @@ public class TestLogger {
         Logger logger = getUserLogger(userType);
         String resultStr = result ? "PASS" : "FAIL";
         
+        // Stop the clock before logging so the banner isn't part of the measurement
+        TestTimer timer = CURRENT_TIMER.get();
+        long durationNanos = -1;
+        List<StepTiming> steps = new ArrayList<>();
+        List<Map<String, Object>> pageMetrics = new ArrayList<>();
+        List<Map<String, Object>> budgets = new ArrayList<>();
+        if (timer != null && timer.isFor(userType, testName)) {
+            CURRENT_TIMER.remove();
+            durationNanos = timer.stop();
+            steps = timer.getSteps();
+            pageMetrics = timer.getPageMetrics();
+            budgets = timer.getBudgets();
+        }
+        
         logger.info("======================================================");
         logger.info("END TEST: {} for {} - {}", testName, userType.getUsername(), resultStr);
+        if (durationNanos >= 0) {
+            logger.info("Duration: {} ms", toMillis(durationNanos));
+        }
         if (message != null && !message.isEmpty()) {
             logger.info("Message: {}", message);
         }
         logger.info("======================================================");
         
-        // Store the result for the summary
-        testResults.get(userType).put(testName, new TestResult(resultStr, message, LocalDateTime.now()));
+        TestResult testResult = new TestResult(resultStr, message, LocalDateTime.now(),
+                durationNanos, steps, pageMetrics, budgets);
+        
+        // Store the result for the summary; a re-run of the same test replaces its earlier result
+        TestResult previous = testResults[userType.ordinal()].put(testName, testResult);
+        if (previous != null) {
+            (previous.isPass() ? passCounts : failCounts).decrementAndGet(userType.ordinal());
+        }
+        (result ? passCounts : failCounts).incrementAndGet(userType.ordinal());
+        
+        try {
+            RESULTS_JOURNAL.append(toRecord(userType, testName, testResult));
+        } catch (IOException e) {
+            MAIN_LOGGER.error("Failed to journal result of {}: {}", testName, e.getMessage());
+        }
+    }
+    
+    /**
+     * Build the journal record of a result
+     */
+    private static Map<String, Object> toRecord(UserType userType, String testName, TestResult testResult) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("time", testResult.getTime().toString());
+        record.put("userType", userType.name());
+        record.put("test", testName);
+        record.put("result", testResult.getResult());
+        record.put("message", testResult.getMessage() == null ? "" : testResult.getMessage());
+        if (testResult.getDurationNanos() >= 0) {
+            record.put("durationMs", toMillis(testResult.getDurationNanos()));
+        }
+        if (!testResult.getSteps().isEmpty()) {
+            List<Map<String, Object>> steps = new ArrayList<>();
+            for (StepTiming step : testResult.getSteps()) {
+                Map<String, Object> stepRecord = new LinkedHashMap<>();
+                stepRecord.put("step", step.getName());
+                stepRecord.put("durationMs", toMillis(step.getDurationNanos()));
+                steps.add(stepRecord);
+            }
+            record.put("steps", steps);
+        }
+        if (!testResult.getPageMetrics().isEmpty()) {
+            record.put("pageMetrics", testResult.getPageMetrics());
+        }
+        if (!testResult.getBudgets().isEmpty()) {
+            record.put("budgets", testResult.getBudgets());
+        }
+        return record;
+    }
+    
+    /**
+     * Get the number of passed tests recorded for a user type
+     * @param userType The user type
+     * @return The PASS count
+     */
+    public static int getPassCount(UserType userType) {
+        return passCounts.get(userType.ordinal());
+    }
+    
+    /**
+     * Get the number of failed tests recorded for a user type
+     * @param userType The user type
+     * @return The FAIL count
+     */
+    public static int getFailCount(UserType userType) {
+        return failCounts.get(userType.ordinal());
     }
     
     /**
@@ -93,9 +202,48 @@ public class TestLogger {
      */
     public static void logTestStep(UserType userType, String step) {
         Logger logger = getUserLogger(userType);
+        TestTimer timer = CURRENT_TIMER.get();
+        if (timer != null && timer.getUserType() == userType) {
+            StepTiming previous = timer.startStep(step);
+            if (previous != null) {
+                logger.debug("Step took {} ms: {}", toMillis(previous.getDurationNanos()), previous.getName());
+            }
+        }
         logger.info("STEP: {}", step);
     }
     
+    /**
+     * Attach browser timing metrics to the test running on the current thread
+     * Metrics collected outside logTestStart/logTestEnd are only logged.
+     * @param metrics The metrics of one page, as collected by BasePage
+     */
+    public static void attachPageMetrics(Map<String, Object> metrics) {
+        TestTimer timer = CURRENT_TIMER.get();
+        if (timer == null) {
+            MAIN_LOGGER.debug("Page metrics outside of a logged test: {}", metrics);
+            return;
+        }
+        timer.getPageMetrics().add(metrics);
+        getUserLogger(timer.getUserType()).debug("Page metrics: {}", metrics);
+    }
+    
+    /**
+     * Log a performance budget measurement and attach it to the test running on the current thread
+     * @param userType The user type the budget applies to
+     * @param budgetResult The metric, actualMs, limitMs and pass flag, as recorded by PerformanceBudget
+     */
+    public static void attachBudgetResult(UserType userType, Map<String, Object> budgetResult) {
+        Logger logger = getUserLogger(userType);
+        logger.info("BUDGET: {} took {} ms (limit {} ms) - {}", budgetResult.get("metric"),
+                budgetResult.get("actualMs"), budgetResult.get("limitMs"),
+                Boolean.TRUE.equals(budgetResult.get("pass")) ? "PASS" : "FAIL");
+        
+        TestTimer timer = CURRENT_TIMER.get();
+        if (timer != null && timer.getUserType() == userType) {
+            timer.getBudgets().add(budgetResult);
+        }
+    }
+    
     /**
      * Log detailed test information 
      * @param userType The user type
@@ -129,60 +277,130 @@ public class TestLogger {
     
     /**
      * Generate and save a summary of all test results
+     * The summary is rendered from the in-memory result store in the order the tests ended,
+     * reading the concurrent maps without blocking tests that are still running
      */
     public static void generateTestSummary() {
-        StringBuilder summary = new StringBuilder();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        
-        summary.append("# Swag Labs User Type Test Summary\n\n");
-        summary.append("Generated: ").append(LocalDateTime.now().format(formatter)).append("\n\n");
-        
-        for (UserType userType : UserType.values()) {
-            summary.append("## ").append(userType.getUsername()).append("\n\n");
-            
-            Map<String, TestResult> results = testResults.get(userType);
-            if (results.isEmpty()) {
-                summary.append("No tests executed for this user type.\n\n");
-                continue;
-            }
-            
-            summary.append("| Test Name | Result | Execution Time | Notes |\n");
-            summary.append("|-----------|--------|----------------|-------|\n");
-            
-            for (Map.Entry<String, TestResult> entry : results.entrySet()) {
-                TestResult result = entry.getValue();
-                summary.append("| ").append(entry.getKey()).append(" | ");
-                
-                if ("PASS".equals(result.getResult())) {
-                    summary.append("✅ PASS");
-                } else {
-                    summary.append("❌ FAIL");
-                }
-                
-                summary.append(" | ").append(result.getTime().format(formatter)).append(" | ");
-                
-                if (result.getMessage() != null && !result.getMessage().isEmpty()) {
-                    summary.append(result.getMessage());
-                }
-                
-                summary.append(" |\n");
+        TestSummaryRenderer renderer = new TestSummaryRenderer();
+        int passed = 0;
+        int failed = 0;
+        for (UserType userType : USER_TYPES) {
+            List<Map.Entry<String, TestResult>> results = new ArrayList<>(testResults[userType.ordinal()].entrySet());
+            results.sort(Comparator.comparing(entry -> entry.getValue().getTime()));
+            for (Map.Entry<String, TestResult> entry : results) {
+                renderer.add(toRecord(userType, entry.getKey(), entry.getValue()));
             }
-            
-            summary.append("\n");
+            passed += getPassCount(userType);
+            failed += getFailCount(userType);
         }
         
-        // Save summary to file
         try {
-            Path summaryPath = Paths.get(LOG_DIR, "test-summary.md");
-            Files.write(summaryPath, summary.toString().getBytes(), 
-                       StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-            
-            MAIN_LOGGER.info("Test summary generated: {}", summaryPath.toAbsolutePath());
+            renderer.writeTo(SUMMARY_FILE);
+            MAIN_LOGGER.info("Test summary generated: {} ({} passed, {} failed)",
+                    SUMMARY_FILE.toAbsolutePath(), passed, failed);
         } catch (IOException e) {
             MAIN_LOGGER.error("Failed to generate test summary: {}", e.getMessage());
         }
     }
     
+    /**
+     * Convert nanoseconds to milliseconds with sub-millisecond precision
+     */
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+    
+    /**
+     * Inner class timing one test and its steps on a single thread
+     */
+    private static class TestTimer {
+        private final UserType userType;
+        private final String testName;
+        private final long startNanos = System.nanoTime();
+        private final List<StepTiming> steps = new ArrayList<>();
+        private final List<Map<String, Object>> pageMetrics = new ArrayList<>();
+        private final List<Map<String, Object>> budgets = new ArrayList<>();
+        private String currentStep;
+        private long stepStartNanos;
+        
+        public TestTimer(UserType userType, String testName) {
+            this.userType = userType;
+            this.testName = testName;
+        }
+        
+        public UserType getUserType() {
+            return userType;
+        }
+        
+        public boolean isFor(UserType userType, String testName) {
+            return this.userType == userType && this.testName.equals(testName);
+        }
+        
+        /**
+         * Close the running step, if any, and start timing a new one
+         * @return The step that was closed, or null
+         */
+        public StepTiming startStep(String step) {
+            long now = System.nanoTime();
+            StepTiming previous = closeStep(now);
+            currentStep = step;
+            stepStartNanos = now;
+            return previous;
+        }
+        
+        /**
+         * Close the running step and return the test duration in nanoseconds
+         */
+        public long stop() {
+            long now = System.nanoTime();
+            closeStep(now);
+            return now - startNanos;
+        }
+        
+        private StepTiming closeStep(long now) {
+            if (currentStep == null) {
+                return null;
+            }
+            StepTiming timing = new StepTiming(currentStep, now - stepStartNanos);
+            steps.add(timing);
+            currentStep = null;
+            return timing;
+        }
+        
+        public List<StepTiming> getSteps() {
+            return steps;
+        }
+        
+        public List<Map<String, Object>> getPageMetrics() {
+            return pageMetrics;
+        }
+        
+        public List<Map<String, Object>> getBudgets() {
+            return budgets;
+        }
+    }
+    
+    /**
+     * Inner class to store the duration of a test step
+     */
+    private static class StepTiming {
+        private final String name;
+        private final long durationNanos;
+        
+        public StepTiming(String name, long durationNanos) {
+            this.name = name;
+            this.durationNanos = durationNanos;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+    
     /**
      * Inner class to store test results
      */
@@ -190,17 +408,31 @@ public class TestLogger {
         private final String result;
         private final String message;
         private final LocalDateTime time;
+        private final long durationNanos;
+        private final List<StepTiming> steps;
+        private final List<Map<String, Object>> pageMetrics;
+        private final List<Map<String, Object>> budgets;
         
-        public TestResult(String result, String message, LocalDateTime time) {
+        public TestResult(String result, String message, LocalDateTime time, long durationNanos,
+                          List<StepTiming> steps, List<Map<String, Object>> pageMetrics,
+                          List<Map<String, Object>> budgets) {
             this.result = result;
             this.message = message;
             this.time = time;
+            this.durationNanos = durationNanos;
+            this.steps = steps;
+            this.pageMetrics = pageMetrics;
+            this.budgets = budgets;
         }
         
         public String getResult() {
             return result;
         }
         
+        public boolean isPass() {
+            return "PASS".equals(result);
+        }
+        
         public String getMessage() {
             return message;
         }
@@ -208,5 +440,24 @@ public class TestLogger {
         public LocalDateTime getTime() {
             return time;
         }
+        
+        /**
+         * Test duration in nanoseconds, or -1 if logTestStart wasn't called on this thread
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+        
+        public List<StepTiming> getSteps() {
+            return steps;
+        }
+        
+        public List<Map<String, Object>> getPageMetrics() {
+            return pageMetrics;
+        }
+        
+        public List<Map<String, Object>> getBudgets() {
+            return budgets;
+        }
     }
 }
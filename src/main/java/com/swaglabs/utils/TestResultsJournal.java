@@ -0,0 +1,116 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Append-only JSON Lines log of test results
+ * Every record is written and flushed as soon as it is appended, so the results of a run that
+ * crashes or is killed are still on disk. A journal left by the previous run is moved aside to
+ * a ".previous" file by start(), which TestLogger calls as soon as it is loaded, so even a run
+ * that records no results replaces it. The previous journal can still be rendered from there.
+ */
+public class TestResultsJournal {
+    private static final Json JSON = new Json();
+
+    private final Path file;
+    private BufferedWriter writer;
+
+    public TestResultsJournal(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Start a new journal for this run, moving any journal from an earlier run aside
+     */
+    public synchronized void start() throws IOException {
+        if (writer == null) {
+            open();
+        }
+    }
+
+    /**
+     * Append one record as a single JSON line and flush it to disk
+     * @param record Field names and values (strings, numbers, booleans)
+     */
+    public synchronized void append(Map<String, Object> record) throws IOException {
+        start();
+        StringWriter line = new StringWriter();
+        try (JsonOutput output = JSON.newOutput(line)) {
+            output.setPrettyPrint(false);
+            output.write(record);
+        }
+        writer.write(line.toString());
+        writer.newLine();
+        writer.flush();
+    }
+
+    private void open() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        if (Files.exists(file)) {
+            Files.move(file, getPreviousFile(file), StandardCopyOption.REPLACE_EXISTING);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Get where the previous run's journal is kept
+     */
+    public static Path getPreviousFile(Path journal) {
+        String name = journal.getFileName().toString();
+        return journal.resolveSibling(name.replaceFirst("\\.jsonl$", "") + ".previous.jsonl");
+    }
+
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Failed to close results journal: " + e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    /**
+     * Stream the records of a journal one line at a time
+     * A truncated last line (from a killed run) is skipped.
+     * @param journal The journal file
+     * @param consumer Receives each record in file order
+     */
+    public static void forEach(Path journal, Consumer<Map<String, Object>> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    consumer.accept(JSON.toType(line, Json.MAP_TYPE));
+                } catch (JsonException e) {
+                    System.err.println("Skipping unreadable journal line: " + e.getMessage());
+                }
+            }
+        }
+    }
+}
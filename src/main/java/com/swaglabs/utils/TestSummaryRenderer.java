@@ -0,0 +1,379 @@
+package com.swaglabs.utils;
+
+import com.swaglabs.enums.UserType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Builds the markdown test summary incrementally from result records
+ * TestLogger feeds it the records of its result store at the end of a run; render() streams a journal.
+ * Each record is folded into compact per-user-type aggregates as it arrives: one row per test
+ * (result, duration, time, message), the slowest steps, per-page timing samples and the budget
+ * verdicts. Raw records, with their steps and browser metrics, are not kept.
+ * Not thread-safe: build one per rendering. Test threads never wait on it, since TestLogger only
+ * renders from generateTestSummary; the journal is what survives an interrupted run.
+ *
+ * Can also be run on its own to rebuild the summary of an interrupted run:
+ * mvn exec:java -Dexec.mainClass="com.swaglabs.utils.TestSummaryRenderer" -Dexec.args="logs/test-results.previous.jsonl"
+ */
+public class TestSummaryRenderer {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int SLOWEST_STEPS = 5;
+
+    private final Map<UserType, UserTypeSummary> summaries = new EnumMap<>(UserType.class);
+
+    public TestSummaryRenderer() {
+        for (UserType userType : UserType.values()) {
+            summaries.put(userType, new UserTypeSummary());
+        }
+    }
+
+    /**
+     * Render a journal to a markdown summary, streaming it one record at a time
+     * @param journal The JSON Lines results file
+     * @param output The markdown file to write
+     */
+    public static void render(Path journal, Path output) throws IOException {
+        TestSummaryRenderer renderer = new TestSummaryRenderer();
+        if (Files.exists(journal)) {
+            TestResultsJournal.forEach(journal, renderer::add);
+        }
+        renderer.writeTo(output);
+    }
+
+    /**
+     * Fold one journal record into the summary
+     * A re-run of a test replaces its row and budget verdicts; its step and page timings are kept as extra samples.
+     * @param record A record as written by TestLogger
+     */
+    public void add(Map<String, Object> record) {
+        UserType userType;
+        try {
+            userType = UserType.valueOf(String.valueOf(record.get("userType")));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Skipping journal record with unknown user type: " + record);
+            return;
+        }
+        summaries.get(userType).add(record);
+    }
+
+    /**
+     * Write the summary of every record added so far
+     * The file is replaced in one step, so readers never see a half-written summary.
+     * @param output The markdown file to write
+     */
+    public void writeTo(Path output) throws IOException {
+        Path directory = output.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, output.getFileName().toString(), ".tmp");
+        try {
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                out.write("# Swag Labs User Type Test Summary\n\n");
+                out.write("Generated: " + LocalDateTime.now().format(FORMATTER) + "\n\n");
+
+                for (UserType userType : UserType.values()) {
+                    out.write("## " + userType.getUsername() + "\n\n");
+                    summaries.get(userType).write(out);
+                }
+            }
+            Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Aggregates of one user type
+     */
+    private static class UserTypeSummary {
+        // Latest result per test
+        private final Map<String, TestRow> rows = new LinkedHashMap<>();
+        // Min-heap of the slowest steps seen, bounded to SLOWEST_STEPS
+        private final PriorityQueue<StepSample> slowestSteps =
+                new PriorityQueue<>(Comparator.comparingDouble(StepSample::getDurationMs));
+        private final Map<String, PageSamples> pages = new LinkedHashMap<>();
+        // Budget verdicts of the latest run of each test
+        private final Map<String, List<BudgetRow>> budgets = new LinkedHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        void add(Map<String, Object> record) {
+            String testName = String.valueOf(record.get("test"));
+            Object message = record.get("message");
+            rows.remove(testName);
+            rows.put(testName, new TestRow("PASS".equals(record.get("result")), getMillis(record),
+                    String.valueOf(record.get("time")), message == null ? "" : message.toString()));
+
+            for (Map<String, Object> step : getMaps(record.get("steps"))) {
+                Double duration = getMillis(step);
+                if (duration != null) {
+                    slowestSteps.add(new StepSample(testName, String.valueOf(step.get("step")), duration));
+                    if (slowestSteps.size() > SLOWEST_STEPS) {
+                        slowestSteps.poll();
+                    }
+                }
+            }
+
+            for (Map<String, Object> metrics : getMaps(record.get("pageMetrics"))) {
+                pages.computeIfAbsent(String.valueOf(metrics.get("page")), page -> new PageSamples()).add(metrics);
+            }
+
+            List<BudgetRow> testBudgets = new ArrayList<>();
+            for (Map<String, Object> budget : getMaps(record.get("budgets"))) {
+                testBudgets.add(new BudgetRow(testName, budget));
+            }
+            budgets.remove(testName);
+            if (!testBudgets.isEmpty()) {
+                budgets.put(testName, testBudgets);
+            }
+        }
+
+        void write(BufferedWriter out) throws IOException {
+            if (rows.isEmpty()) {
+                out.write("No tests executed for this user type.\n\n");
+                return;
+            }
+
+            out.write("| Test Name | Result | Duration | Execution Time | Notes |\n");
+            out.write("|-----------|--------|----------|----------------|-------|\n");
+            List<Double> durations = new ArrayList<>();
+            for (Map.Entry<String, TestRow> entry : rows.entrySet()) {
+                TestRow row = entry.getValue();
+                if (row.durationMs != null) {
+                    durations.add(row.durationMs);
+                }
+                out.write("| " + entry.getKey() + " | ");
+                out.write(row.pass ? "✅ PASS" : "❌ FAIL");
+                out.write(" | " + (row.durationMs == null ? "-" : formatMillis(row.durationMs)));
+                out.write(" | " + LocalDateTime.parse(row.time).format(FORMATTER) + " | ");
+                out.write(row.message);
+                out.write(" |\n");
+            }
+            out.write("\n");
+            writeTimingStats(out, durations);
+            writePageMetrics(out);
+            writeBudgets(out);
+        }
+
+        /**
+         * Write p50/p95/max of the test durations and the slowest steps
+         */
+        private void writeTimingStats(BufferedWriter out, List<Double> durations) throws IOException {
+            if (durations.isEmpty()) {
+                return;
+            }
+            Collections.sort(durations);
+            out.write("**Duration:** p50 " + formatMillis(percentile(durations, 50))
+                    + ", p95 " + formatMillis(percentile(durations, 95))
+                    + ", max " + formatMillis(durations.get(durations.size() - 1))
+                    + " (" + durations.size() + " timed tests)\n\n");
+
+            if (slowestSteps.isEmpty()) {
+                return;
+            }
+            List<StepSample> steps = new ArrayList<>(slowestSteps);
+            steps.sort(Comparator.comparingDouble(StepSample::getDurationMs).reversed());
+            out.write("| Slowest Step | Test | Duration |\n");
+            out.write("|--------------|------|----------|\n");
+            for (StepSample step : steps) {
+                out.write("| " + step.step + " | " + step.testName + " | " + formatMillis(step.durationMs) + " |\n");
+            }
+            out.write("\n");
+        }
+
+        /**
+         * Write browser timing per page: median load and first contentful paint of fresh documents,
+         * median resource count, and the slowest resource seen on that page
+         */
+        private void writePageMetrics(BufferedWriter out) throws IOException {
+            if (pages.isEmpty()) {
+                return;
+            }
+            out.write("| Page | Samples | Load p50 | FCP p50 | Resources p50 | Slowest Resource |\n");
+            out.write("|------|---------|----------|---------|---------------|------------------|\n");
+            for (Map.Entry<String, PageSamples> entry : pages.entrySet()) {
+                PageSamples samples = entry.getValue();
+                out.write("| " + entry.getKey() + " | " + samples.count);
+                out.write(" | " + (samples.loads.isEmpty() ? "-" : formatMillis(median(samples.loads))));
+                out.write(" | " + (samples.paints.isEmpty() ? "-" : formatMillis(median(samples.paints))));
+                out.write(" | " + (samples.resourceCounts.isEmpty() ? "-"
+                        : String.format("%.0f", median(samples.resourceCounts))));
+                out.write(" | " + (samples.slowestResource == null ? "-"
+                        : samples.slowestResource + " (" + formatMillis(samples.slowestResourceMs) + ")"));
+                out.write(" |\n");
+            }
+            out.write("\n");
+        }
+
+        /**
+         * Write every budget measurement with its limit and verdict
+         */
+        private void writeBudgets(BufferedWriter out) throws IOException {
+            if (budgets.isEmpty()) {
+                return;
+            }
+            out.write("| Budget | Test | Limit | Actual | Result |\n");
+            out.write("|--------|------|-------|--------|--------|\n");
+            for (List<BudgetRow> testBudgets : budgets.values()) {
+                for (BudgetRow budget : testBudgets) {
+                    out.write("| " + budget.metric + " | " + budget.testName);
+                    out.write(" | " + (budget.limitMs == null ? "-" : formatMillis(budget.limitMs)));
+                    out.write(" | " + (budget.actualMs == null ? "-" : formatMillis(budget.actualMs)));
+                    out.write(" | " + (budget.pass ? "✅ PASS" : "❌ FAIL"));
+                    out.write(" |\n");
+                }
+            }
+            out.write("\n");
+        }
+    }
+
+    private static class TestRow {
+        private final boolean pass;
+        private final Double durationMs;
+        private final String time;
+        private final String message;
+
+        TestRow(boolean pass, Double durationMs, String time, String message) {
+            this.pass = pass;
+            this.durationMs = durationMs;
+            this.time = time;
+            this.message = message;
+        }
+    }
+
+    private static class StepSample {
+        private final String testName;
+        private final String step;
+        private final double durationMs;
+
+        StepSample(String testName, String step, double durationMs) {
+            this.testName = testName;
+            this.step = step;
+            this.durationMs = durationMs;
+        }
+
+        double getDurationMs() {
+            return durationMs;
+        }
+    }
+
+    /**
+     * Timing samples of one page
+     */
+    private static class PageSamples {
+        private int count;
+        private final List<Double> loads = new ArrayList<>();
+        private final List<Double> paints = new ArrayList<>();
+        private final List<Double> resourceCounts = new ArrayList<>();
+        private String slowestResource;
+        private double slowestResourceMs;
+
+        @SuppressWarnings("unchecked")
+        void add(Map<String, Object> metrics) {
+            count++;
+            Object navigation = metrics.get("navigation");
+            if (navigation instanceof Map) {
+                addNumber(((Map<String, Object>) navigation).get("loadMs"), loads);
+            }
+            Object paint = metrics.get("paint");
+            if (paint instanceof Map) {
+                addNumber(((Map<String, Object>) paint).get("first-contentful-paint"), paints);
+            }
+            addNumber(metrics.get("resourceCount"), resourceCounts);
+            List<Map<String, Object>> resources = getMaps(metrics.get("slowestResources"));
+            if (!resources.isEmpty()) {
+                Double duration = getMillis(resources.get(0));
+                if (duration != null && (slowestResource == null || duration > slowestResourceMs)) {
+                    slowestResource = String.valueOf(resources.get(0).get("name"));
+                    slowestResourceMs = duration;
+                }
+            }
+        }
+    }
+
+    private static class BudgetRow {
+        private final String testName;
+        private final Object metric;
+        private final Double limitMs;
+        private final Double actualMs;
+        private final boolean pass;
+
+        BudgetRow(String testName, Map<String, Object> budget) {
+            this.testName = testName;
+            this.metric = budget.get("metric");
+            Object limit = budget.get("limitMs");
+            this.limitMs = limit instanceof Number && ((Number) limit).longValue() >= 0
+                    ? ((Number) limit).doubleValue() : null;
+            this.actualMs = budget.get("actualMs") instanceof Number
+                    ? ((Number) budget.get("actualMs")).doubleValue() : null;
+            this.pass = Boolean.TRUE.equals(budget.get("pass"));
+        }
+    }
+
+    /**
+     * The map elements of a list field, or an empty list if the field is missing
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getMaps(Object value) {
+        List<Map<String, Object>> maps = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<Object>) value) {
+                if (item instanceof Map) {
+                    maps.add((Map<String, Object>) item);
+                }
+            }
+        }
+        return maps;
+    }
+
+    private static void addNumber(Object value, List<Double> values) {
+        if (value instanceof Number) {
+            values.add(((Number) value).doubleValue());
+        }
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return percentile(sorted, 50);
+    }
+
+    private static Double getMillis(Map<String, Object> record) {
+        Object value = record.get("durationMs");
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted list
+     */
+    private static double percentile(List<Double> sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    private static String formatMillis(double millis) {
+        return millis >= 1000 ? String.format("%.2f s", millis / 1000) : String.format("%.0f ms", millis);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path journal = Paths.get(args.length > 0 ? args[0] : "logs/test-results.jsonl");
+        Path output = Paths.get(args.length > 1 ? args[1] : "logs/test-summary.md");
+        render(journal, output);
+        System.out.println("Test summary rendered from " + journal + " to " + output.toAbsolutePath());
+    }
+}
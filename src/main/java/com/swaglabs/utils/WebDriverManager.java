@@ -1,6 +1,7 @@
 package com.swaglabs.utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
@@ -14,13 +15,12 @@ import org.openqa.selenium.safari.SafariDriver;
 import org.openqa.selenium.safari.SafariOptions;
 import java.time.Duration;
 import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.io.IOException;
 import java.util.Arrays;  // Add import for Arrays
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * WebDriver utility class for managing browser instances
@@ -28,23 +28,88 @@ import java.util.Arrays;  // Add import for Arrays
  * Supports multiple browsers: Chrome, Firefox, Edge, and Safari
  */
 public class WebDriverManager {
-    private static WebDriver driver;
-    private static final String BASE_URL = "https://www.saucedemo.com";
-    private static final int DEFAULT_TIMEOUT = 10; // seconds
+    private static final ThreadLocal<WebDriver> DRIVER = new ThreadLocal<>();
+    // Drivers handed in through attachDriver; they bypass the pool
+    private static final Set<WebDriver> ATTACHED_DRIVERS = ConcurrentHashMap.newKeySet();
+    private static final String DEFAULT_BASE_URL = "https://www.saucedemo.com";
+    // Site under test: -DbaseUrl=<url>, or -DbaseUrl=local for the embedded SwagLabsStandIn
+    private static final String BASE_URL = resolveBaseUrl();
+    // Implicit wait policy - off by default so page objects rely on BasePage's explicit waits only;
+    // -Dwait.implicit=<seconds> turns it back on for code that still depends on it
+    private static final Duration IMPLICIT_WAIT = Duration.ofSeconds(
+            Long.getLong("wait.implicit", 0L));
     private static final int DEFAULT_RETRY_COUNT = 3;
+    // Reachability checks: HTTP probes, retried in a browser only with -Dprobe.browserFallback=true
+    private static final String CONNECTION_CHECK_URL = "https://www.google.com";
+    private static final String SWAG_LABS_MARKUP = "<title>Swag Labs</title>";
+    private static final boolean BROWSER_FALLBACK = Boolean.getBoolean("probe.browserFallback");
+    // Retry delay doubles from nav.backoff.base up to nav.backoff.max (ms), with full jitter
+    private static final long BACKOFF_BASE_MILLIS = Long.getLong("nav.backoff.base", 500L);
+    private static final long BACKOFF_MAX_MILLIS = Long.getLong("nav.backoff.max", 8000L);
+    // Shared by all tests: opens when half of the last nav.breaker.window navigations failed,
+    // then fails navigation immediately for nav.breaker.openMillis before probing again
+    private static final CircuitBreaker NAVIGATION_BREAKER = new CircuitBreaker("navigation",
+            Integer.getInteger("nav.breaker.window", 10),
+            Integer.getInteger("nav.breaker.minCalls", 4),
+            Double.parseDouble(System.getProperty("nav.breaker.failureRate", "0.5")),
+            Long.getLong("nav.breaker.openMillis", 30000L));
+    // Set once the cached diagnostics report has been consulted, before the first navigation
+    private static final AtomicBoolean DIAGNOSTICS_CHECKED = new AtomicBoolean(false);
     private static final String SCREENSHOTS_DIR = "test-screenshots";
+    private static final ScreenshotStore SCREENSHOT_STORE = new ScreenshotStore(SCREENSHOTS_DIR);
     
     // Environment flags
     private static final boolean HEADLESS_MODE = Boolean.parseBoolean(
             System.getProperty("headless", "false"));
     private static final boolean CI_MODE = Boolean.parseBoolean(
             System.getProperty("ci", "false"));
+    
+    // Pool sizing - defaults to one browser per available core
+    private static final int POOL_SIZE = Integer.getInteger(
+            "pool.size", Runtime.getRuntime().availableProcessors());
+    private static final long POOL_LEASE_TIMEOUT = Long.getLong("pool.leaseTimeout", 120L); // seconds
+    // Browsers launched in the background ahead of demand (0 = launch on the test thread)
+    private static final int POOL_PREWARM = Integer.getInteger("pool.prewarm", 0);
+    
+    // Session reuse - keep browsers alive between tests and reset them instead of relaunching
+    private static final boolean REUSE_SESSION = Boolean.parseBoolean(
+            System.getProperty("reuseSession", "false"));
+    private static final int MAX_SESSION_USES = Integer.getInteger("session.maxUses", 25);
             
     // Browser selection - defaults to chrome if not specified
     public enum BrowserType {
         CHROME, FIREFOX, EDGE, SAFARI
     }
-      private static final BrowserType BROWSER_TYPE = getBrowserTypeFromProperty();
+    private static final BrowserType BROWSER_TYPE = getBrowserTypeFromProperty();
+    
+    private static final WebDriverPool POOL = new WebDriverPool(
+            POOL_SIZE, POOL_PREWARM, POOL_LEASE_TIMEOUT, WebDriverManager::launchDriver);
+    
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            System.out.println(POOL.getStatsSummary());
+            System.out.println(NAVIGATION_BREAKER.getStatsSummary());
+            POOL.shutdown();
+        }, "webdriver-pool-shutdown"));
+    }
+    
+    /**
+     * Resolve the base URL from the baseUrl system property, starting the local stand-in if requested
+     */
+    private static String resolveBaseUrl() {
+        String baseUrl = System.getProperty("baseUrl", DEFAULT_BASE_URL).trim();
+        if ("local".equalsIgnoreCase(baseUrl)) {
+            return SwagLabsStandIn.startShared();
+        }
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+    
+    /**
+     * Get the base URL of the site under test, without a trailing slash
+     */
+    public static String getBaseUrl() {
+        return BASE_URL;
+    }
     
     /**
      * Get the browser type from system property
@@ -70,53 +135,65 @@ public class WebDriverManager {
     }
 
     /**
-     * Get the driver instance, creating it if needed
+     * Get the driver leased by the current thread, leasing one if needed
      */
     public static WebDriver getDriver() {
-        if (driver == null) {
+        if (DRIVER.get() == null) {
             setupDriver();
         }
-        return driver;
-    }    /**
-     * Setup a new WebDriver instance with appropriate configurations
+        return DRIVER.get();
+    }
+    
+    /**
+     * Lease a WebDriver from the pool for the current thread
+     * Any driver the thread already holds is quit first
      */
     public static void setupDriver() {
+        quitDriver();
         try {
-            System.out.println("Setting up " + BROWSER_TYPE + " browser...");
-            
-            switch (BROWSER_TYPE) {
-                case FIREFOX:
-                    setupFirefoxDriver();
-                    break;
-                case EDGE:
-                    setupEdgeDriver();
-                    break;
-                case SAFARI:
-                    setupSafariDriver();
-                    break;
-                case CHROME:
-                default:
-                    setupChromeDriver();
-                    break;
-            }
-            
-            // Configure timeouts for all browser types
-            if (driver != null) {
-                driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(DEFAULT_TIMEOUT));
-                driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
-                System.out.println(BROWSER_TYPE + " WebDriver successfully initialized");
-            }
+            DRIVER.set(POOL.lease());
         } catch (Exception e) {
             System.err.println("Failed to initialize WebDriver: " + e.getMessage());
             throw e;
         }
     }
     
+    /**
+     * Launch a new WebDriver instance with appropriate configurations
+     * Used by the pool whenever it has no idle driver to hand out
+     */
+    private static WebDriver launchDriver() {
+        System.out.println("Setting up " + BROWSER_TYPE + " browser...");
+        WebDriver newDriver;
+        
+        switch (BROWSER_TYPE) {
+            case FIREFOX:
+                newDriver = setupFirefoxDriver();
+                break;
+            case EDGE:
+                newDriver = setupEdgeDriver();
+                break;
+            case SAFARI:
+                newDriver = setupSafariDriver();
+                break;
+            case CHROME:
+            default:
+                newDriver = setupChromeDriver();
+                break;
+        }
+        
+        // Configure timeouts for all browser types
+        newDriver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
+        newDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
+        System.out.println(BROWSER_TYPE + " WebDriver successfully initialized");
+        return newDriver;
+    }
+    
     /**
      * Set up Chrome WebDriver
      */
-    private static void setupChromeDriver() {
-        io.github.bonigarcia.wdm.WebDriverManager.chromedriver().setup();
+    private static WebDriver setupChromeDriver() {
+        DriverBinaryResolver.resolve(BrowserType.CHROME);
         ChromeOptions options = new ChromeOptions();
         
         // Enable headless mode if running in CI or if explicitly requested
@@ -142,14 +219,14 @@ public class WebDriverManager {
         options.setExperimentalOption("excludeSwitches", 
                 java.util.Collections.singletonList("enable-automation"));
         
-        driver = new ChromeDriver(options);
+        return new ChromeDriver(options);
     }
     
     /**
      * Set up Firefox WebDriver
      */
-    private static void setupFirefoxDriver() {
-        io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver().setup();
+    private static WebDriver setupFirefoxDriver() {
+        DriverBinaryResolver.resolve(BrowserType.FIREFOX);
         FirefoxOptions options = new FirefoxOptions();
         
         if (HEADLESS_MODE || CI_MODE) {
@@ -161,14 +238,14 @@ public class WebDriverManager {
         options.addArguments("--width=1920");
         options.addArguments("--height=1080");
         
-        driver = new FirefoxDriver(options);
+        return new FirefoxDriver(options);
     }
     
     /**
      * Set up Edge WebDriver
      */
-    private static void setupEdgeDriver() {
-        io.github.bonigarcia.wdm.WebDriverManager.edgedriver().setup();
+    private static WebDriver setupEdgeDriver() {
+        DriverBinaryResolver.resolve(BrowserType.EDGE);
         EdgeOptions options = new EdgeOptions();
         
         if (HEADLESS_MODE || CI_MODE) {
@@ -181,13 +258,13 @@ public class WebDriverManager {
         options.addArguments("--ignore-certificate-errors");
         options.addArguments("--disable-extensions");
         
-        driver = new EdgeDriver(options);
+        return new EdgeDriver(options);
     }
     
     /**
      * Set up Safari WebDriver
      */
-    private static void setupSafariDriver() {
+    private static WebDriver setupSafariDriver() {
         // Safari doesn't support WebDriverManager, as WebDriver is built into macOS
         // Safari doesn't support headless mode
         if (HEADLESS_MODE || CI_MODE) {
@@ -197,10 +274,10 @@ public class WebDriverManager {
         SafariOptions options = new SafariOptions();
         // Safari has limited options compared to other browsers
         
-        driver = new SafariDriver(options);
+        return new SafariDriver(options);
     }
       /**
-     * Create a new WebDriver instance that's independent of the singleton instance
+     * Create a new WebDriver instance that's independent of the pool
      * Honors the browser type selected via system property
      */
     public static WebDriver createNewDriver() {
@@ -218,7 +295,7 @@ public class WebDriverManager {
         try {
             switch (browserType) {
                 case FIREFOX:
-                    io.github.bonigarcia.wdm.WebDriverManager.firefoxdriver().setup();
+                    DriverBinaryResolver.resolve(BrowserType.FIREFOX);
                     FirefoxOptions firefoxOptions = new FirefoxOptions();
                     if (HEADLESS_MODE || CI_MODE) {
                         firefoxOptions.addArguments("-headless");
@@ -227,7 +304,7 @@ public class WebDriverManager {
                     break;
                     
                 case EDGE:
-                    io.github.bonigarcia.wdm.WebDriverManager.edgedriver().setup();
+                    DriverBinaryResolver.resolve(BrowserType.EDGE);
                     EdgeOptions edgeOptions = new EdgeOptions();
                     if (HEADLESS_MODE || CI_MODE) {
                         edgeOptions.addArguments("--headless=new");
@@ -243,7 +320,7 @@ public class WebDriverManager {
                     
                 case CHROME:
                 default:
-                    io.github.bonigarcia.wdm.WebDriverManager.chromedriver().setup();
+                    DriverBinaryResolver.resolve(BrowserType.CHROME);
                     ChromeOptions chromeOptions = new ChromeOptions();
                     if (HEADLESS_MODE || CI_MODE) {
                         chromeOptions.addArguments("--headless=new");
@@ -260,7 +337,7 @@ public class WebDriverManager {
             }
             
             if (newDriver != null) {
-                newDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(DEFAULT_TIMEOUT));
+                newDriver.manage().timeouts().implicitlyWait(IMPLICIT_WAIT);
                 newDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
             }
             
@@ -275,135 +352,295 @@ public class WebDriverManager {
     public static void navigateToBaseUrl() {
         navigateToBaseUrlWithRetry(DEFAULT_RETRY_COUNT);
     }
-      public static void navigateToBaseUrlWithRetry(int maxRetries) {
-        int retryCount = 0;
-        boolean navigated = false;
-        
-        while (!navigated && retryCount < maxRetries) {
+    
+    /**
+     * Navigate to BASE_URL, retrying failed attempts with exponential backoff and jitter
+     * Every attempt goes through the shared navigation circuit breaker, so once the site is
+     * known to be down the remaining tests fail in milliseconds instead of retrying
+     * @param maxRetries Maximum number of attempts
+     * @throws CircuitBreaker.CircuitOpenException if the breaker is open
+     */
+    public static void navigateToBaseUrlWithRetry(int maxRetries) {
+        if (DIAGNOSTICS_CHECKED.compareAndSet(false, true)) {
+            List<String> blockers = TestEnvironmentDiagnostics.getCachedTestBlockers();
+            if (!blockers.isEmpty()) {
+                System.err.println("Recent environment diagnostics report problems that may fail navigation to "
+                        + BASE_URL + ":\n" + String.join("\n", blockers));
+            }
+        }
+        // Leasing or launching a browser can fail too, but that says nothing about the site
+        WebDriver driver = getDriver();
+        for (int attempt = 1; ; attempt++) {
+            long permit = NAVIGATION_BREAKER.acquirePermission();
+            boolean navigated = false;
+            RuntimeException failure;
             try {
-                getDriver().get(BASE_URL);
+                driver.get(BASE_URL);
                 navigated = true;
-            } catch (Exception e) {
-                retryCount++;
-                System.out.println("Navigation attempt " + retryCount + " failed: " + e.getMessage());
-                
-                if (retryCount >= maxRetries) {
-                    System.out.println("Maximum retry attempts reached. Navigation failed.");
-                    throw e;
-                }
-                
-                try {
-                    // Wait before retrying
-                    Thread.sleep(1000);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                // Runs for Errors as well, so a half-open probe is always resolved
+                if (navigated) {
+                    NAVIGATION_BREAKER.recordSuccess(permit);
+                } else {
+                    NAVIGATION_BREAKER.recordFailure(permit);
                 }
             }
+            
+            System.out.println("Navigation attempt " + attempt + " failed: " + failure.getMessage());
+            if (attempt >= maxRetries) {
+                System.out.println("Maximum retry attempts reached. Navigation failed.");
+                throw failure;
+            }
+            if (NAVIGATION_BREAKER.getState() == CircuitBreaker.State.OPEN) {
+                System.out.println("Navigation circuit breaker opened. Navigation failed.");
+                throw failure;
+            }
+            
+            try {
+                Thread.sleep(backoffMillis(attempt));
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting to retry navigation", ie);
+            }
         }
     }
     
     /**
-     * Quit the WebDriver and release resources
+     * Delay before the retry following a failed attempt: a random time up to
+     * BACKOFF_BASE_MILLIS * 2^(attempt - 1), capped at BACKOFF_MAX_MILLIS
+     * The jitter keeps parallel workers from retrying against the site in lockstep.
+     */
+    private static long backoffMillis(int attempt) {
+        long ceiling = Math.min(BACKOFF_MAX_MILLIS, BACKOFF_BASE_MILLIS << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+    
+    /**
+     * Use an externally created driver (e.g. a remote or stub driver) on the current thread
+     * The driver is not pooled; quitDriver() quits it directly
+     * @param driver The driver to use
+     */
+    public static void attachDriver(WebDriver driver) {
+        quitDriver();
+        ATTACHED_DRIVERS.add(driver);
+        DRIVER.set(driver);
+    }
+    
+    /**
+     * Release the current thread's WebDriver
+     * In reuse mode a healthy browser is reset and returned to the pool;
+     * otherwise, or once it has served session.maxUses tests, it is quit
      */
     public static void quitDriver() {
-        if (driver != null) {
+        WebDriver driver = DRIVER.get();
+        if (driver == null) {
+            return;
+        }
+        DRIVER.remove();
+        
+        if (ATTACHED_DRIVERS.remove(driver)) {
             try {
                 driver.quit();
-                System.out.println("WebDriver successfully closed");
             } catch (Exception e) {
-                System.err.println("Error quitting driver: " + e.getMessage());
-            } finally {
-                driver = null;
+                System.err.println("Error quitting attached driver: " + e.getMessage());
             }
+            return;
+        }
+        
+        if (REUSE_SESSION
+                && POOL.getLeaseCount(driver) < MAX_SESSION_USES
+                && isDriverHealthy(driver)
+                && resetSession(driver)) {
+            POOL.release(driver);
+            System.out.println("WebDriver session reset and returned to pool");
+        } else {
+            POOL.discard(driver);
+            System.out.println("WebDriver successfully closed");
         }
     }
     
+    /**
+     * Reset the current thread's browser to a clean, logged-out state on the base URL
+     * @return true if the reset succeeded
+     */
+    public static boolean resetSession() {
+        WebDriver driver = DRIVER.get();
+        return driver != null && resetSession(driver);
+    }
+    
+    /**
+     * Clear cookies, localStorage and sessionStorage, then go back to BASE_URL
+     */
+    private static boolean resetSession(WebDriver driver) {
+        try {
+            // Storage is per origin, so clear it before leaving the current page
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.manage().deleteAllCookies();
+            driver.get(BASE_URL);
+            return true;
+        } catch (Exception e) {
+            System.err.println("Failed to reset browser session: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Check that a browser still responds and has an open window
+     */
+    private static boolean isDriverHealthy(WebDriver driver) {
+        try {
+            return !driver.getWindowHandles().isEmpty() && driver.getCurrentUrl() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Get the implicit wait configured on every driver (zero when implicit waits are off)
+     */
+    public static Duration getImplicitWait() {
+        return IMPLICIT_WAIT;
+    }
+    
+    /**
+     * Get the pool backing getDriver()/setupDriver()/quitDriver()
+     */
+    public static WebDriverPool getPool() {
+        return POOL;
+    }
+    
     /**
      * Capture a screenshot with the current WebDriver
-     * @param testName Name of test for the screenshot filename
-     * @return File object of the saved screenshot, or null if failed
+     * The image is grabbed on the calling thread and stored in the background;
+     * identical images share one file in test-screenshots/blobs, listed per test in index.csv
+     * @param testName Name of test the screenshot is indexed under
+     * @return File the image is stored in, or null if capture failed; a new image is written
+     * asynchronously, so the file may not exist yet; call flushScreenshots() before reading it
      */
     public static File captureScreenshot(String testName) {
+        WebDriver driver = DRIVER.get();
         if (driver == null) {
             System.err.println("Cannot capture screenshot: WebDriver is null");
             return null;
         }
         
         try {
-            // Take screenshot
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            
-            // Create screenshots directory if it doesn't exist
-            Path screenshotsDir = Paths.get(SCREENSHOTS_DIR);
-            if (!Files.exists(screenshotsDir)) {
-                Files.createDirectories(screenshotsDir);
-            }
-            
-            // Generate filename with timestamp
-            String fileName = sanitizeFileName(testName) + "-" + 
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".png";
-            Path targetPath = screenshotsDir.resolve(fileName);
-            
-            // Save the screenshot
-            Files.copy(screenshot.toPath(), targetPath);
-            System.out.println("Screenshot saved: " + targetPath);
-            
-            return targetPath.toFile();
-        } catch (IOException e) {
-            System.err.println("Failed to capture screenshot: " + e.getMessage());
-            return null;
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            return SCREENSHOT_STORE.store(sanitizeFileName(testName), screenshot).toFile();
         } catch (Exception e) {
             System.err.println("Unexpected error capturing screenshot: " + e.getMessage());
             return null;
         }
     }
     
+    /**
+     * Wait until every screenshot captured so far is written to disk
+     * @param timeoutSeconds Maximum time to wait
+     * @return true if all pending screenshots were written in time
+     */
+    public static boolean flushScreenshots(long timeoutSeconds) {
+        return SCREENSHOT_STORE.flush(timeoutSeconds);
+    }
+    
     /**
      * Sanitize a filename by removing invalid characters
      */
-    private static String sanitizeFileName(String name) {
+    public static String sanitizeFileName(String name) {
         return name.replaceAll("[^a-zA-Z0-9-]", "_");
     }
     
     /**
-     * Check if the browser is reachable and working properly
-     * @return true if browser is working correctly
+     * Check that the machine can reach the internet, using an HTTP probe rather than a browser
+     * With -Dprobe.browserFallback=true a failed probe is retried in a browser.
+     * @return true if the connection works
      */
     public static boolean testBrowserConnection() {
-        try {
-            WebDriver testDriver = createNewDriver();
-            try {
-                testDriver.get("https://www.google.com");
-                System.out.println("Browser connection test: SUCCESS");
-                return true;
-            } finally {
-                testDriver.quit();
-            }
-        } catch (Exception e) {
-            System.err.println("Browser connection test FAILED: " + e.getMessage());
-            return false;
+        return testBrowserConnection(BROWSER_FALLBACK);
+    }
+    
+    /**
+     * Check that the machine can reach the internet
+     * @param browserFallback Retry in a browser if the HTTP probe fails, e.g. when only the browser has a proxy
+     * @return true if the connection works
+     */
+    public static boolean testBrowserConnection(boolean browserFallback) {
+        ReachabilityProbe.Verdict verdict = ReachabilityProbe.check(CONNECTION_CHECK_URL, null);
+        System.out.println("Browser connection test: " + verdict);
+        if (verdict.isReachable() || !browserFallback) {
+            return verdict.isReachable();
         }
+        return checkInBrowser("Browser connection test", CONNECTION_CHECK_URL, null);
     }
     
     /**
-     * Check if the Swag Labs site is reachable
+     * Check if the Swag Labs site is reachable, using an HTTP probe rather than a browser
+     * The verdict is cached for -Dprobe.ttlSeconds. With -Dprobe.browserFallback=true a failed
+     * probe is retried in a browser.
      * @return true if the site is reachable
      */
     public static boolean isSwagLabsReachable() {
+        return isSwagLabsReachable(BROWSER_FALLBACK);
+    }
+    
+    /**
+     * Check if the Swag Labs site is reachable
+     * @param browserFallback Retry in a browser if the HTTP probe fails
+     * @return true if the site is reachable
+     */
+    public static boolean isSwagLabsReachable(boolean browserFallback) {
+        // The login form is rendered client-side, so the probe checks for the app shell's title
+        ReachabilityProbe.Verdict verdict = ReachabilityProbe.check(BASE_URL + "/", SWAG_LABS_MARKUP);
+        System.out.println("Swag Labs reachability check: " + verdict);
+        if (verdict.isReachable() || !browserFallback) {
+            return verdict.isReachable();
+        }
+        return checkInBrowser("Swag Labs reachability check", BASE_URL, By.id("user-name"));
+    }
+    
+    /**
+     * Load a page in a browser of its own, never in the one the current thread's test is using
+     * A thread without a browser leases one from the pool and resets and returns it afterwards.
+     * A thread that already holds a lease gets a separate browser outside the pool, quit afterwards,
+     * since waiting for a second lease could block on its own slot.
+     * @param marker Element that must be present, or null to only require the page to load
+     */
+    private static boolean checkInBrowser(String checkName, String url, By marker) {
+        boolean pooled = DRIVER.get() == null;
+        WebDriver driver = null;
+        boolean healthy = false;
         try {
-            WebDriver testDriver = createNewDriver();
-            try {
-                testDriver.get(BASE_URL);
-                // Check if login form is present
-                boolean reachable = !testDriver.findElements(By.id("user-name")).isEmpty();
-                System.out.println("Swag Labs reachability check: " + (reachable ? "SUCCESS" : "FAILED"));
-                return reachable;
-            } finally {
-                testDriver.quit();
-            }
+            driver = pooled ? POOL.lease() : createNewDriver();
+            boolean reachable = loadAndCheck(checkName, url, marker, driver);
+            healthy = true;
+            return reachable;
         } catch (Exception e) {
-            System.err.println("Swag Labs reachability check FAILED: " + e.getMessage());
+            System.err.println(checkName + " in browser FAILED: " + e.getMessage());
             return false;
+        } finally {
+            if (driver != null) {
+                if (!pooled) {
+                    try {
+                        driver.quit();
+                    } catch (Exception e) {
+                        System.err.println("Error quitting " + checkName + " browser: " + e.getMessage());
+                    }
+                } else if (healthy && resetSession(driver)) {
+                    POOL.release(driver);
+                } else {
+                    POOL.discard(driver);
+                }
+            }
         }
     }
+    
+    private static boolean loadAndCheck(String checkName, String url, By marker, WebDriver driver) {
+        driver.get(url);
+        boolean reachable = marker == null || !driver.findElements(marker).isEmpty();
+        System.out.println(checkName + " in browser: " + (reachable ? "SUCCESS" : "FAILED"));
+        return reachable;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,383 @@
+package com.swaglabs.utils;
+
+import org.openqa.selenium.WebDriver;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of WebDriver instances
+ * At most maxSize drivers are alive (leased, idle or launching) at the same time;
+ * callers block until a slot frees up.
+ *
+ * With a prewarm target above zero, a background launcher keeps that many browsers
+ * starting ahead of demand so lease() usually finds one already running.
+ *
+ * An idle driver is checked with a cheap getWindowHandle() round-trip before it is handed out;
+ * one whose browser or session died while it sat in the pool is quit and replaced.
+ */
+public class WebDriverPool {
+    private static final long IDLE_POLL_MILLIS = 250;
+
+    private final int maxSize;
+    private final int prewarmTarget;
+    private final long leaseTimeoutSeconds;
+    private final Supplier<WebDriver> factory;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, Integer> leaseCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger liveCount = new AtomicInteger();
+    private final AtomicInteger pendingLaunches = new AtomicInteger();
+    private final ExecutorService launcher;
+
+    // Sizing metrics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder launches = new LongAdder();
+    private final LongAdder launchNanos = new LongAdder();
+    private final LongAccumulator maxLaunchNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseNanos = new LongAdder();
+    private final LongAccumulator maxLeaseNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Create a new pool without background launching
+     * @param maxSize Maximum number of live drivers
+     * @param leaseTimeoutSeconds How long lease() waits for a free slot
+     * @param factory Creates a new driver when no idle one is available
+     */
+    public WebDriverPool(int maxSize, long leaseTimeoutSeconds, Supplier<WebDriver> factory) {
+        this(maxSize, 0, leaseTimeoutSeconds, factory);
+    }
+
+    /**
+     * Create a new pool
+     * @param maxSize Maximum number of live drivers
+     * @param prewarmTarget Number of idle drivers to keep launched ahead of demand (0 disables)
+     * @param leaseTimeoutSeconds How long lease() waits for a free slot
+     * @param factory Creates a new driver when no idle one is available
+     */
+    public WebDriverPool(int maxSize, int prewarmTarget, long leaseTimeoutSeconds, Supplier<WebDriver> factory) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.prewarmTarget = Math.max(0, Math.min(prewarmTarget, maxSize));
+        this.leaseTimeoutSeconds = leaseTimeoutSeconds;
+        this.factory = factory;
+        this.permits = new Semaphore(maxSize, true);
+
+        if (this.prewarmTarget > 0) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.launcher = Executors.newFixedThreadPool(this.prewarmTarget, runnable -> {
+                Thread thread = new Thread(runnable, "webdriver-launcher-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            topUp();
+        } else {
+            this.launcher = null;
+        }
+    }
+
+    /**
+     * Lease a driver, reusing an idle one when possible
+     * @return A driver owned by the caller until release() or discard()
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(leaseTimeoutSeconds);
+        try {
+            if (!permits.tryAcquire(leaseTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new RuntimeException("Timed out after " + leaseTimeoutSeconds
+                        + "s waiting for a WebDriver (pool size " + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a WebDriver", e);
+        }
+
+        try {
+            WebDriver driver = pollLiveIdleDriver();
+            if (driver != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+                driver = awaitDriver(deadline);
+            }
+            leaseCounts.merge(driver, 1, Integer::sum);
+
+            long waited = System.nanoTime() - start;
+            leases.increment();
+            leaseNanos.add(waited);
+            maxLeaseNanos.accumulate(waited);
+            return driver;
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        } finally {
+            topUp();
+        }
+    }
+
+    /**
+     * Launch a driver on the calling thread, or wait for one already launching in the background
+     */
+    private WebDriver awaitDriver(long deadline) {
+        while (true) {
+            if (reserveSlot()) {
+                return launch();
+            }
+            // Every free slot is taken by a background launch; wait for it to land
+            try {
+                WebDriver driver = idleDrivers.pollFirst(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (driver != null) {
+                    if (isAlive(driver)) {
+                        return driver;
+                    }
+                    // Its slot is free again, so the next pass can launch a replacement
+                    evict(driver);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a WebDriver", e);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new RuntimeException("Timed out after " + leaseTimeoutSeconds
+                        + "s waiting for a background WebDriver launch");
+            }
+        }
+    }
+
+    /**
+     * Take the most recently used idle driver that still responds, evicting dead ones on the way
+     * @return A live idle driver, or null if there is none
+     */
+    private WebDriver pollLiveIdleDriver() {
+        WebDriver driver;
+        while ((driver = idleDrivers.pollFirst()) != null) {
+            if (isAlive(driver)) {
+                return driver;
+            }
+            evict(driver);
+        }
+        return null;
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("Idle WebDriver is no longer responding: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Quit a dead idle driver and free its capacity; the caller keeps its lease permit
+     */
+    private void evict(WebDriver driver) {
+        leaseCounts.remove(driver);
+        liveCount.decrementAndGet();
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Error quitting dead driver: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Claim capacity for one more live driver
+     */
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = liveCount.get();
+            if (current >= maxSize) {
+                return false;
+            }
+        } while (!liveCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Create a driver for a reserved slot and record how long it took
+     */
+    private WebDriver launch() {
+        long start = System.nanoTime();
+        boolean launched = false;
+        try {
+            WebDriver driver = factory.get();
+            long elapsed = System.nanoTime() - start;
+            launches.increment();
+            launchNanos.add(elapsed);
+            maxLaunchNanos.accumulate(elapsed);
+            launched = true;
+            return driver;
+        } finally {
+            // Whatever the factory threw, the slot was never filled
+            if (!launched) {
+                liveCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Start background launches until prewarmTarget drivers are idle or on their way
+     */
+    private void topUp() {
+        if (launcher == null || launcher.isShutdown()) {
+            return;
+        }
+        while (idleDrivers.size() + pendingLaunches.get() < prewarmTarget && reserveSlot()) {
+            pendingLaunches.incrementAndGet();
+            try {
+                launcher.execute(() -> {
+                    try {
+                        idleDrivers.offerLast(launch());
+                    } catch (RuntimeException | Error e) {
+                        System.err.println("Background WebDriver launch failed: " + e.getMessage());
+                    } finally {
+                        pendingLaunches.decrementAndGet();
+                    }
+                });
+            } catch (RuntimeException e) {
+                pendingLaunches.decrementAndGet();
+                liveCount.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Return a healthy driver to the pool so the next lease can reuse it
+     * @param driver The leased driver
+     */
+    public void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        idleDrivers.offerFirst(driver);
+        permits.release();
+    }
+
+    /**
+     * Quit a leased driver and free its slot
+     * @param driver The leased driver
+     */
+    public void discard(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        leaseCounts.remove(driver);
+        try {
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Error quitting pooled driver: " + e.getMessage());
+        } finally {
+            liveCount.decrementAndGet();
+            permits.release();
+            topUp();
+        }
+    }
+
+    /**
+     * Stop background launches and quit every idle driver; leased drivers are left to their owners
+     */
+    public void shutdown() {
+        if (launcher != null) {
+            launcher.shutdownNow();
+        }
+        WebDriver driver;
+        while ((driver = idleDrivers.pollFirst()) != null) {
+            leaseCounts.remove(driver);
+            liveCount.decrementAndGet();
+            try {
+                driver.quit();
+            } catch (Exception e) {
+                System.err.println("Error quitting idle driver: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get how many times a driver has been leased since it was launched
+     * @param driver A driver created by this pool
+     * @return The lease count, or 0 if the driver is unknown
+     */
+    public int getLeaseCount(WebDriver driver) {
+        return leaseCounts.getOrDefault(driver, 0);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getPrewarmTarget() {
+        return prewarmTarget;
+    }
+
+    public int getIdleCount() {
+        return idleDrivers.size();
+    }
+
+    public int getAvailableSlots() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Number of leases served by an already running driver
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of leases that had to launch or wait for a driver
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getLaunchCount() {
+        return launches.sum();
+    }
+
+    public double getAverageLaunchMillis() {
+        long count = launches.sum();
+        return count == 0 ? 0 : launchNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxLaunchMillis() {
+        return maxLaunchNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageLeaseMillis() {
+        long count = leases.sum();
+        return count == 0 ? 0 : leaseNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxLeaseMillis() {
+        return maxLeaseNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * One-line summary of the sizing metrics
+     */
+    public String getStatsSummary() {
+        return String.format("WebDriver pool [size=%d, prewarm=%d]: hits=%d, misses=%d, launches=%d, "
+                        + "launch avg/max=%.0f/%.0f ms, time-to-lease avg/max=%.0f/%.0f ms",
+                maxSize, prewarmTarget, getHitCount(), getMissCount(), getLaunchCount(),
+                getAverageLaunchMillis(), getMaxLaunchMillis(),
+                getAverageLeaseMillis(), getMaxLeaseMillis());
+    }
+}
@@ -0,0 +1,603 @@
+/*
+ * Local stand-in for the Swag Labs demo (https://www.saucedemo.com)
+ * Renders the same pages, ids, classes and data-test attributes as the public site, keeps the
+ * session in the "session-username" cookie and the cart in localStorage "cart-contents", and
+ * reproduces the known faults of each demo user. The performance_glitch_user delay is added
+ * by the server (SwagLabsStandIn) when it serves the inventory page.
+ */
+(function () {
+    'use strict';
+
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user',
+        'performance_glitch_user', 'error_user', 'visual_user'];
+    var SESSION_COOKIE = 'session-username';
+    var CART_KEY = 'cart-contents';
+    var ERROR_KEY = 'login-error';
+    var BROKEN_IMAGE = 'sl-404';
+    var ERROR_BUTTON = '<button class="error-button" data-test="error-button" type="button">'
+        + '<svg width="10" height="10" viewBox="0 0 10 10" aria-hidden="true">'
+        + '<path d="M1 1L9 9M9 1L1 9" stroke="currentColor" stroke-width="2"/></svg></button>';
+
+    // Listed in the default "Name (A to Z)" order
+    var PRODUCTS = [
+        {id: 4, name: 'Sauce Labs Backpack', price: 29.99, image: 'sauce-backpack',
+            desc: 'carry.allTheThings() with the sleek, streamlined Sly Pack that melds uncompromising style with unequaled laptop and tablet protection.'},
+        {id: 0, name: 'Sauce Labs Bike Light', price: 9.99, image: 'bike-light',
+            desc: "A red light isn't the desired state in testing but it sure helps when riding your bike at night. Water-resistant with 3 lighting modes, 1 AAA battery included."},
+        {id: 1, name: 'Sauce Labs Bolt T-Shirt', price: 15.99, image: 'bolt-shirt',
+            desc: 'Get your testing superhero on with the Sauce Labs bolt T-shirt. From American Apparel, 100% ringspun combed cotton, heather gray with red bolt.'},
+        {id: 5, name: 'Sauce Labs Fleece Jacket', price: 49.99, image: 'sauce-pullover',
+            desc: "It's not every day that you come across a midweight quarter-zip fleece jacket capable of handling everything from a relaxing day outdoors to a busy day at the office."},
+        {id: 2, name: 'Sauce Labs Onesie', price: 7.99, image: 'red-onesie',
+            desc: "Rib snap infant onesie for the junior automation engineer in development. Reinforced 3-snap bottom closure, two-needle hemmed sleeved and bottom won't unravel."},
+        {id: 3, name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99, image: 'red-tatt',
+            desc: 'This classic Sauce Labs t-shirt is perfect to wear when cozying up to your keyboard to automate a few tests. Super-soft and comfy ringspun combed cotton.'}
+    ];
+
+    var SORT_OPTIONS = [
+        {value: 'az', label: 'Name (A to Z)'},
+        {value: 'za', label: 'Name (Z to A)'},
+        {value: 'lohi', label: 'Price (low to high)'},
+        {value: 'hilo', label: 'Price (high to low)'}
+    ];
+
+    // Known faults of the demo users
+    var FAULTS = {
+        problem_user: {brokenImages: true, brokenSort: true, brokenAdd: [1, 5, 3], lastNameToFirstName: true},
+        error_user: {brokenAdd: [1, 5, 3], brokenRemoveOnInventory: true, lastNameLocked: true, brokenFinish: true},
+        visual_user: {brokenImageIds: [4], randomPrices: true, misalignedCart: true}
+    };
+
+    // ---- Session and cart ----
+
+    function getCookie(name) {
+        var match = document.cookie.match(new RegExp('(?:^|; )' + name + '=([^;]*)'));
+        return match ? decodeURIComponent(match[1]) : null;
+    }
+
+    function setSession(username) {
+        document.cookie = SESSION_COOKIE + '=' + encodeURIComponent(username) + '; path=/';
+    }
+
+    function clearSession() {
+        document.cookie = SESSION_COOKIE + '=; path=/; expires=Thu, 01 Jan 1970 00:00:00 GMT';
+    }
+
+    function currentUser() {
+        var user = getCookie(SESSION_COOKIE);
+        return USERS.indexOf(user) >= 0 && user !== 'locked_out_user' ? user : null;
+    }
+
+    function faults() {
+        return FAULTS[currentUser()] || {};
+    }
+
+    function getCart() {
+        try {
+            return JSON.parse(localStorage.getItem(CART_KEY)) || [];
+        } catch (e) {
+            return [];
+        }
+    }
+
+    function setCart(ids) {
+        if (ids.length === 0) {
+            localStorage.removeItem(CART_KEY);
+        } else {
+            localStorage.setItem(CART_KEY, JSON.stringify(ids));
+        }
+    }
+
+    function addToCart(id) {
+        var cart = getCart();
+        if (cart.indexOf(id) < 0) {
+            cart.push(id);
+            setCart(cart);
+        }
+    }
+
+    function removeFromCart(id) {
+        setCart(getCart().filter(function (cartId) {
+            return cartId !== id;
+        }));
+    }
+
+    function findProduct(id) {
+        for (var i = 0; i < PRODUCTS.length; i++) {
+            if (PRODUCTS[i].id === id) {
+                return PRODUCTS[i];
+            }
+        }
+        return null;
+    }
+
+    function cartProducts() {
+        return getCart().map(findProduct).filter(Boolean);
+    }
+
+    // ---- Rendering helpers ----
+
+    function escapeHtml(text) {
+        return String(text).replace(/[&<>"']/g, function (c) {
+            return {'&': '&amp;', '<': '&lt;', '>': '&gt;', '"': '&quot;', "'": '&#39;'}[c];
+        });
+    }
+
+    function slug(name) {
+        return name.trim().toLowerCase().replace(/ /g, '-');
+    }
+
+    function money(value) {
+        return '$' + value.toFixed(2);
+    }
+
+    function imageFor(product) {
+        var f = faults();
+        var broken = f.brokenImages || (f.brokenImageIds && f.brokenImageIds.indexOf(product.id) >= 0);
+        return '/static/img/' + (broken ? BROKEN_IMAGE : product.image) + '.svg';
+    }
+
+    function cartButton(product, inCart, idPrefix) {
+        var id = idPrefix === undefined ? '-' + slug(product.name) : idPrefix;
+        return inCart
+            ? '<button class="btn btn_secondary btn_small btn_inventory" id="remove' + id + '" data-test="remove'
+                + id + '" name="remove' + id + '" data-id="' + product.id + '" data-action="remove">Remove</button>'
+            : '<button class="btn btn_primary btn_small btn_inventory" id="add-to-cart' + id + '" data-test="add-to-cart'
+                + id + '" name="add-to-cart' + id + '" data-id="' + product.id + '" data-action="add">Add to cart</button>';
+    }
+
+    function header(title, secondary) {
+        var count = getCart().length;
+        return ''
+            + '<div id="page_wrapper" class="page_wrapper"><div id="contents_wrapper">'
+            + '<div class="header_container" id="header_container" data-test="header-container">'
+            + '<div class="primary_header" data-test="primary-header">'
+            + '<div id="menu_button_container"><div class="bm-burger-button">'
+            + '<button type="button" id="react-burger-menu-btn">Open Menu</button></div>'
+            + '<div class="bm-menu-wrap" aria-hidden="true"><div class="bm-menu">'
+            + '<nav class="bm-item-list">'
+            + '<a id="inventory_sidebar_link" class="bm-item menu-item" href="/inventory.html" data-test="inventory-sidebar-link">All Items</a>'
+            + '<a id="about_sidebar_link" class="bm-item menu-item" href="https://saucelabs.com/" data-test="about-sidebar-link">About</a>'
+            + '<a id="logout_sidebar_link" class="bm-item menu-item" href="#" data-test="logout-sidebar-link">Logout</a>'
+            + '<a id="reset_sidebar_link" class="bm-item menu-item" href="#" data-test="reset-sidebar-link">Reset App State</a>'
+            + '</nav></div>'
+            + '<div class="bm-cross-button"><button type="button" id="react-burger-cross-btn">Close Menu</button></div>'
+            + '</div></div>'
+            + '<div class="header_label"><div class="app_logo">Swag Labs</div></div>'
+            + '<div id="shopping_cart_container" class="shopping_cart_container'
+            + (faults().misalignedCart ? ' visual_failure' : '') + '">'
+            + '<a class="shopping_cart_link" href="/cart.html" data-test="shopping-cart-link">'
+            + (count > 0 ? '<span class="shopping_cart_badge" data-test="shopping-cart-badge">' + count + '</span>' : '')
+            + '</a></div>'
+            + '</div>'
+            + '<div class="header_secondary_container" data-test="secondary-header">'
+            + '<span class="title" data-test="title">' + escapeHtml(title) + '</span>'
+            + (secondary || '')
+            + '</div></div>';
+    }
+
+    function footer() {
+        return '<footer class="footer" data-test="footer">'
+            + '<div class="footer_copy" data-test="footer-copy">&copy; ' + new Date().getFullYear()
+            + ' Sauce Labs. All Rights Reserved. Terms of Service | Privacy Policy</div>'
+            + '</footer></div></div>';
+    }
+
+    function render(html) {
+        document.getElementById('root').innerHTML = html;
+    }
+
+    function refreshBadge() {
+        var link = document.querySelector('.shopping_cart_link');
+        if (!link) {
+            return;
+        }
+        var count = getCart().length;
+        link.innerHTML = count > 0
+            ? '<span class="shopping_cart_badge" data-test="shopping-cart-badge">' + count + '</span>'
+            : '';
+    }
+
+    function bindMenu() {
+        var wrapper = document.getElementById('page_wrapper');
+        document.getElementById('react-burger-menu-btn').addEventListener('click', function () {
+            wrapper.classList.add('menu-open');
+        });
+        document.getElementById('react-burger-cross-btn').addEventListener('click', function () {
+            wrapper.classList.remove('menu-open');
+        });
+        document.getElementById('logout_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            clearSession();
+            window.location.href = '/';
+        });
+        document.getElementById('reset_sidebar_link').addEventListener('click', function (event) {
+            event.preventDefault();
+            setCart([]);
+            refreshBadge();
+        });
+    }
+
+    // Add/remove buttons toggle in place; onChange re-renders what depends on the cart
+    function bindCartButtons(onChange) {
+        document.getElementById('root').addEventListener('click', function (event) {
+            var button = event.target.closest('button[data-action]');
+            if (!button) {
+                return;
+            }
+            var id = Number(button.getAttribute('data-id'));
+            var f = faults();
+            if (button.getAttribute('data-action') === 'add') {
+                if (f.brokenAdd && f.brokenAdd.indexOf(id) >= 0) {
+                    return;
+                }
+                addToCart(id);
+            } else {
+                if (f.brokenRemoveOnInventory && button.closest('.inventory_list')) {
+                    return;
+                }
+                removeFromCart(id);
+            }
+            onChange();
+        });
+    }
+
+    function requireLogin() {
+        if (currentUser()) {
+            return true;
+        }
+        sessionStorage.setItem(ERROR_KEY, "Epic sadface: You can only access '"
+            + window.location.pathname + "' when you are logged in.");
+        window.location.replace('/');
+        return false;
+    }
+
+    // ---- Pages ----
+
+    function loginPage() {
+        var error = sessionStorage.getItem(ERROR_KEY);
+        sessionStorage.removeItem(ERROR_KEY);
+
+        render(''
+            + '<div class="login_container"><div class="login_logo">Swag Labs</div>'
+            + '<div class="login_wrapper" data-test="login-container"><div class="login_wrapper-inner">'
+            + '<div id="login_button_container" class="form_column"><div class="login-box">'
+            + '<form id="login_form">'
+            + '<div class="form_group"><input class="input_error form_input" placeholder="Username" type="text"'
+            + ' data-test="username" id="user-name" name="user-name" autocorrect="off" autocapitalize="none"></div>'
+            + '<div class="form_group"><input class="input_error form_input" placeholder="Password" type="password"'
+            + ' data-test="password" id="password" name="password" autocorrect="off" autocapitalize="none"></div>'
+            + '<div class="error-message-container"></div>'
+            + '<input type="submit" class="submit-button btn_action" data-test="login-button" id="login-button"'
+            + ' name="login-button" value="Login">'
+            + '</form></div></div></div></div>'
+            + '<div class="login_credentials_wrap" data-test="login-credentials-container">'
+            + '<div id="login_credentials" class="login_credentials" data-test="login-credentials">'
+            + '<h4>Accepted usernames are:</h4>' + USERS.join('<br>') + '</div>'
+            + '<div class="login_password" data-test="login-password"><h4>Password for all users:</h4>'
+            + PASSWORD + '</div></div></div>');
+
+        function showError(message) {
+            var container = document.querySelector('.error-message-container');
+            container.classList.add('error');
+            container.innerHTML = '<h3 data-test="error">' + escapeHtml(message)
+                + ERROR_BUTTON + '</h3>';
+            container.querySelector('.error-button').addEventListener('click', function () {
+                container.classList.remove('error');
+                container.innerHTML = '';
+            });
+        }
+
+        if (error) {
+            showError(error);
+        }
+
+        document.getElementById('login_form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            var username = document.getElementById('user-name').value;
+            var password = document.getElementById('password').value;
+            if (!username) {
+                showError('Epic sadface: Username is required');
+            } else if (!password) {
+                showError('Epic sadface: Password is required');
+            } else if (USERS.indexOf(username) < 0 || password !== PASSWORD) {
+                showError('Epic sadface: Username and password do not match any user in this service');
+            } else if (username === 'locked_out_user') {
+                showError('Epic sadface: Sorry, this user has been locked out.');
+            } else {
+                setSession(username);
+                window.location.href = '/inventory.html';
+            }
+        });
+    }
+
+    function inventoryPage() {
+        var sort = 'az';
+
+        function sortedProducts() {
+            var products = PRODUCTS.slice();
+            if (faults().brokenSort) {
+                return products;
+            }
+            products.sort(function (a, b) {
+                switch (sort) {
+                    case 'za':
+                        return b.name.localeCompare(a.name);
+                    case 'lohi':
+                        return a.price - b.price;
+                    case 'hilo':
+                        return b.price - a.price;
+                    default:
+                        return a.name.localeCompare(b.name);
+                }
+            });
+            return products;
+        }
+
+        function draw() {
+            var cart = getCart();
+            var f = faults();
+            var select = '<div class="right_component"><span class="select_container">'
+                + '<select class="product_sort_container" data-test="product-sort-container">'
+                + SORT_OPTIONS.map(function (option) {
+                    return '<option value="' + option.value + '"' + (option.value === sort ? ' selected' : '')
+                        + '>' + option.label + '</option>';
+                }).join('')
+                + '</select></span></div>';
+
+            var items = sortedProducts().map(function (product) {
+                var price = f.randomPrices ? Math.round(Math.random() * 9999) / 100 : product.price;
+                return ''
+                    + '<div class="inventory_item" data-test="inventory-item">'
+                    + '<div class="inventory_item_img"><a href="/inventory-item.html?id=' + product.id + '" id="item_'
+                    + product.id + '_img_link" data-test="item-' + product.id + '-img-link">'
+                    + '<img alt="' + escapeHtml(product.name) + '" src="' + imageFor(product) + '"'
+                    + ' data-test="inventory-item-' + slug(product.name) + '-img"></a></div>'
+                    + '<div class="inventory_item_description" data-test="inventory-item-description">'
+                    + '<div class="inventory_item_label">'
+                    + '<a href="/inventory-item.html?id=' + product.id + '" id="item_' + product.id
+                    + '_title_link" data-test="item-' + product.id + '-title-link">'
+                    + '<div class="inventory_item_name" data-test="inventory-item-name">' + escapeHtml(product.name)
+                    + '</div></a>'
+                    + '<div class="inventory_item_desc" data-test="inventory-item-desc">' + escapeHtml(product.desc)
+                    + '</div></div>'
+                    + '<div class="pricebar"><div class="inventory_item_price" data-test="inventory-item-price">'
+                    + money(price) + '</div>' + cartButton(product, cart.indexOf(product.id) >= 0) + '</div>'
+                    + '</div></div>';
+            }).join('');
+
+            render(header('Products', select)
+                + '<div id="inventory_container" class="inventory_container">'
+                + '<div class="inventory_list" data-test="inventory-list">' + items + '</div></div>'
+                + footer());
+
+            bindMenu();
+            document.querySelector('.product_sort_container').addEventListener('change', function (event) {
+                sort = event.target.value;
+                draw();
+            });
+        }
+
+        draw();
+        bindCartButtons(draw);
+    }
+
+    function inventoryItemPage() {
+        var id = Number(new URLSearchParams(window.location.search).get('id'));
+        var product = findProduct(id);
+
+        function draw() {
+            var details;
+            if (!product) {
+                details = '<div class="inventory_details_name large_size" data-test="inventory-item-name">'
+                    + 'ITEM NOT FOUND</div>';
+            } else {
+                details = ''
+                    + '<div class="inventory_details_container" data-test="inventory-container">'
+                    + '<div class="inventory_details_img_container"><img alt="' + escapeHtml(product.name)
+                    + '" class="inventory_details_img" src="' + imageFor(product) + '"></div>'
+                    + '<div class="inventory_details_desc_container">'
+                    + '<div class="inventory_details_name large_size" data-test="inventory-item-name">'
+                    + escapeHtml(product.name) + '</div>'
+                    + '<div class="inventory_details_desc large_size" data-test="inventory-item-desc">'
+                    + escapeHtml(product.desc) + '</div>'
+                    + '<div class="inventory_details_price" data-test="inventory-item-price">' + money(product.price)
+                    + '</div>' + cartButton(product, getCart().indexOf(product.id) >= 0, '')
+                    + '</div></div>';
+            }
+            render(header('', '<div class="left_component"><button class="btn btn_secondary back btn_large'
+                    + ' inventory_details_back_button" data-test="back-to-products" id="back-to-products"'
+                    + ' name="back-to-products">Back to products</button></div>')
+                + '<div class="inventory_details" data-test="inventory-container">' + details + '</div>'
+                + footer());
+
+            bindMenu();
+            document.getElementById('back-to-products').addEventListener('click', function () {
+                window.location.href = '/inventory.html';
+            });
+        }
+
+        draw();
+        bindCartButtons(draw);
+    }
+
+    function cartItems(withButtons) {
+        return cartProducts().map(function (product) {
+            return ''
+                + '<div class="cart_item" data-test="inventory-item">'
+                + '<div class="cart_quantity" data-test="item-quantity">1</div>'
+                + '<div class="cart_item_label">'
+                + '<a href="/inventory-item.html?id=' + product.id + '" id="item_' + product.id
+                + '_title_link" data-test="item-' + product.id + '-title-link">'
+                + '<div class="inventory_item_name" data-test="inventory-item-name">' + escapeHtml(product.name)
+                + '</div></a>'
+                + '<div class="inventory_item_desc" data-test="inventory-item-desc">' + escapeHtml(product.desc)
+                + '</div>'
+                + '<div class="item_pricebar"><div class="inventory_item_price" data-test="inventory-item-price">'
+                + money(product.price) + '</div>' + (withButtons ? cartButton(product, true) : '') + '</div>'
+                + '</div></div>';
+        }).join('');
+    }
+
+    function cartPage() {
+        function draw() {
+            render(header('Your Cart')
+                + '<div id="cart_contents_container" class="cart_contents_container">'
+                + '<div class="cart_list" data-test="cart-list">'
+                + '<div class="cart_quantity_label" data-test="cart-quantity-label">QTY</div>'
+                + '<div class="cart_desc_label" data-test="cart-desc-label">Description</div>'
+                + cartItems(true) + '</div>'
+                + '<div class="cart_footer">'
+                + '<button class="btn btn_secondary back btn_medium" data-test="continue-shopping"'
+                + ' id="continue-shopping" name="continue-shopping">Continue Shopping</button>'
+                + '<button class="btn btn_action btn_medium checkout_button" data-test="checkout" id="checkout"'
+                + ' name="checkout">Checkout</button>'
+                + '</div></div>'
+                + footer());
+
+            bindMenu();
+            document.getElementById('continue-shopping').addEventListener('click', function () {
+                window.location.href = '/inventory.html';
+            });
+            document.getElementById('checkout').addEventListener('click', function () {
+                window.location.href = '/checkout-step-one.html';
+            });
+        }
+
+        draw();
+        bindCartButtons(draw);
+    }
+
+    function checkoutStepOnePage() {
+        render(header('Checkout: Your Information')
+            + '<div id="checkout_info_container" class="checkout_info_container"><div class="checkout_info_wrapper">'
+            + '<form id="checkout_form"><div class="checkout_info" data-test="checkout-info-container">'
+            + '<div class="form_group"><input class="input_error form_input" placeholder="First Name" type="text"'
+            + ' data-test="firstName" id="first-name" name="firstName"></div>'
+            + '<div class="form_group"><input class="input_error form_input" placeholder="Last Name" type="text"'
+            + ' data-test="lastName" id="last-name" name="lastName"></div>'
+            + '<div class="form_group"><input class="input_error form_input" placeholder="Zip/Postal Code"'
+            + ' type="text" data-test="postalCode" id="postal-code" name="postalCode"></div>'
+            + '<div class="error-message-container"></div>'
+            + '</div>'
+            + '<div class="checkout_buttons">'
+            + '<button class="btn btn_secondary back btn_medium cart_cancel_link" data-test="cancel" id="cancel"'
+            + ' name="cancel" type="button">Cancel</button>'
+            + '<input type="submit" class="submit-button btn btn_primary cart_button btn_action" data-test="continue"'
+            + ' id="continue" name="continue" value="Continue">'
+            + '</div></form></div></div>'
+            + footer());
+
+        bindMenu();
+        var firstName = document.getElementById('first-name');
+        var lastName = document.getElementById('last-name');
+        var f = faults();
+        lastName.addEventListener('input', function () {
+            if (f.lastNameToFirstName) {
+                firstName.value = lastName.value.slice(-1);
+                lastName.value = '';
+            } else if (f.lastNameLocked) {
+                lastName.value = '';
+            }
+        });
+
+        document.getElementById('cancel').addEventListener('click', function () {
+            window.location.href = '/cart.html';
+        });
+        document.getElementById('checkout_form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            var error = !firstName.value ? 'Error: First Name is required'
+                : !lastName.value ? 'Error: Last Name is required'
+                : !document.getElementById('postal-code').value ? 'Error: Postal Code is required'
+                : null;
+            if (!error) {
+                window.location.href = '/checkout-step-two.html';
+                return;
+            }
+            var container = document.querySelector('.error-message-container');
+            container.classList.add('error');
+            container.innerHTML = '<h3 data-test="error">' + error
+                + ERROR_BUTTON + '</h3>';
+        });
+    }
+
+    function checkoutStepTwoPage() {
+        var subtotal = cartProducts().reduce(function (sum, product) {
+            return sum + product.price;
+        }, 0);
+        subtotal = Math.round(subtotal * 100) / 100;
+        var tax = Math.round(subtotal * 8) / 100;
+        var total = Math.round((subtotal + tax) * 100) / 100;
+
+        render(header('Checkout: Overview')
+            + '<div id="checkout_summary_container" class="checkout_summary_container"><div>'
+            + '<div class="cart_list" data-test="cart-list">'
+            + '<div class="cart_quantity_label">QTY</div><div class="cart_desc_label">Description</div>'
+            + cartItems(false) + '</div>'
+            + '<div class="summary_info">'
+            + '<div class="summary_info_label" data-test="payment-info-label">Payment Information:</div>'
+            + '<div class="summary_value_label" data-test="payment-info-value">SauceCard #31337</div>'
+            + '<div class="summary_info_label" data-test="shipping-info-label">Shipping Information:</div>'
+            + '<div class="summary_value_label" data-test="shipping-info-value">Free Pony Express Delivery!</div>'
+            + '<div class="summary_info_label" data-test="total-info-label">Price Total</div>'
+            + '<div class="summary_subtotal_label" data-test="subtotal-label">Item total: ' + money(subtotal) + '</div>'
+            + '<div class="summary_tax_label" data-test="tax-label">Tax: ' + money(tax) + '</div>'
+            + '<div class="summary_info_label summary_total_label" data-test="total-label">Total: ' + money(total)
+            + '</div>'
+            + '<div class="cart_footer">'
+            + '<button class="btn btn_secondary back btn_medium cart_cancel_link" data-test="cancel" id="cancel"'
+            + ' name="cancel">Cancel</button>'
+            + '<button class="btn btn_action btn_medium cart_button" data-test="finish" id="finish"'
+            + ' name="finish">Finish</button>'
+            + '</div></div></div></div>'
+            + footer());
+
+        bindMenu();
+        document.getElementById('cancel').addEventListener('click', function () {
+            window.location.href = '/inventory.html';
+        });
+        document.getElementById('finish').addEventListener('click', function () {
+            if (faults().brokenFinish) {
+                return;
+            }
+            setCart([]);
+            window.location.href = '/checkout-complete.html';
+        });
+    }
+
+    function checkoutCompletePage() {
+        render(header('Checkout: Complete!')
+            + '<div id="checkout_complete_container" class="checkout_complete_container"'
+            + ' data-test="checkout-complete-container">'
+            + '<img alt="Pony Express" class="pony_express" src="/static/img/pony-express.svg" data-test="pony-express">'
+            + '<h2 class="complete-header" data-test="complete-header">Thank you for your order!</h2>'
+            + '<div class="complete-text" data-test="complete-text">Your order has been dispatched, and will arrive'
+            + ' just as fast as the pony can get there!</div>'
+            + '<button class="btn btn_primary btn_small" data-test="back-to-products" id="back-to-products"'
+            + ' name="back-to-products">Back Home</button>'
+            + '</div>'
+            + footer());
+
+        bindMenu();
+        document.getElementById('back-to-products').addEventListener('click', function () {
+            window.location.href = '/inventory.html';
+        });
+    }
+
+    var PAGES = {
+        '/inventory.html': inventoryPage,
+        '/inventory-item.html': inventoryItemPage,
+        '/cart.html': cartPage,
+        '/checkout-step-one.html': checkoutStepOnePage,
+        '/checkout-step-two.html': checkoutStepTwoPage,
+        '/checkout-complete.html': checkoutCompletePage
+    };
+
+    var page = PAGES[window.location.pathname];
+    if (!page) {
+        loginPage();
+    } else if (requireLogin()) {
+        page();
+    }
+})();
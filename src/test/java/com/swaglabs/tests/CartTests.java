@@ -1,10 +1,13 @@
 package com.swaglabs.tests;
 
+import com.swaglabs.enums.UserType;
 import com.swaglabs.pages.CartPage;
 import com.swaglabs.pages.LoginPage;
 import com.swaglabs.pages.ProductsPage;
-import com.swaglabs.utils.WebDriverManager;
+import com.swaglabs.tests.extensions.WebDriverExtension;
+import com.swaglabs.utils.BrowserCheckpoint;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.List;
 
@@ -14,25 +17,27 @@ import static org.junit.jupiter.api.Assertions.*;
  * Test cases for Swag Labs cart functionality
  * Authors: Omar Shahin, Hatem Mohamed
  */
+@ExtendWith(WebDriverExtension.class)
 public class CartTests {
     
-    private ProductsPage productsPage;
+    private LoginPage loginPage;
     private static final String TEST_PRODUCT1 = "Sauce Labs Backpack";
     private static final String TEST_PRODUCT2 = "Sauce Labs Bike Light";
     
     @BeforeEach
-    public void setup() {
-        WebDriverManager.setupDriver();
-        WebDriverManager.navigateToBaseUrl();
-        
-        // Login and navigate to products page
-        LoginPage loginPage = new LoginPage();
-        productsPage = loginPage.loginAs(LoginPage.STANDARD_USER, LoginPage.PASSWORD);
+    public void setup(LoginPage loginPage) {
+        this.loginPage = loginPage;
     }
     
-    @AfterEach
-    public void tearDown() {
-        WebDriverManager.quitDriver();
+    /**
+     * Open the cart page with one product in it; the product is added through the UI once per worker
+     */
+    private CartPage openCartWith(String productName) {
+        BrowserCheckpoint.restoreOrBuild("CartTests.cartWith:" + productName, "/cart.html", () ->
+                new LoginPage().loginWithSession(UserType.STANDARD_USER)
+                        .clickAddToCartForProduct(productName)
+                        .goToCart());
+        return new CartPage();
     }
     
     /**
@@ -46,6 +51,8 @@ public class CartTests {
     @Test
     @DisplayName("TC-011: Add Product to Cart")
     public void testAddProductToCart() {
+        ProductsPage productsPage = loginPage.loginWithSession(UserType.STANDARD_USER);
+        
         // Add product to cart
         productsPage.clickAddToCartForProduct(TEST_PRODUCT1);
         
@@ -69,6 +76,8 @@ public class CartTests {
     @Test
     @DisplayName("TC-012: Add Multiple Products to Cart")
     public void testAddMultipleProductsToCart() {
+        ProductsPage productsPage = loginPage.loginWithSession(UserType.STANDARD_USER);
+        
         // Add multiple products to cart
         productsPage.clickAddToCartForProduct(TEST_PRODUCT1)
                    .clickAddToCartForProduct(TEST_PRODUCT2);
@@ -97,11 +106,8 @@ public class CartTests {
     @Test
     @DisplayName("TC-013: Remove Product from Cart")
     public void testRemoveProductFromCart() {
-        // Add product to cart
-        productsPage.clickAddToCartForProduct(TEST_PRODUCT1);
-        
-        // Go to cart page
-        CartPage cartPage = productsPage.goToCart();
+        // Go to cart page with the product in it
+        CartPage cartPage = openCartWith(TEST_PRODUCT1);
         
         // Verify product is in cart
         assertTrue(cartPage.isProductInCart(TEST_PRODUCT1), "Product should be in cart initially");
@@ -124,6 +130,8 @@ public class CartTests {
     @Test
     @DisplayName("TC-014: Update Cart from Product Page")
     public void testUpdateCartFromProductPage() {
+        ProductsPage productsPage = loginPage.loginWithSession(UserType.STANDARD_USER);
+        
         // Add product to cart
         productsPage.clickAddToCartForProduct(TEST_PRODUCT1);
         
@@ -153,9 +161,8 @@ public class CartTests {
     @Test
     @DisplayName("TC-015: Continue Shopping")
     public void testContinueShopping() {
-        // Add product to cart and navigate to cart page
-        productsPage.clickAddToCartForProduct(TEST_PRODUCT1);
-        CartPage cartPage = productsPage.goToCart();
+        // Go to cart page with a product in it
+        CartPage cartPage = openCartWith(TEST_PRODUCT1);
         
         // Click continue shopping button
         ProductsPage redirectedPage = cartPage.continueShopping();
@@ -177,6 +184,8 @@ public class CartTests {
     @Test
     @DisplayName("TC-016: Cart Persistence")
     public void testCartPersistence() {
+        ProductsPage productsPage = loginPage.loginWithSession(UserType.STANDARD_USER);
+        
         // Add product to cart
         productsPage.clickAddToCartForProduct(TEST_PRODUCT1);
         int initialCartCount = productsPage.getCartCount();
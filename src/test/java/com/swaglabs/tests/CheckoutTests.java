@@ -1,8 +1,12 @@
 package com.swaglabs.tests;
 
+import com.swaglabs.enums.UserType;
 import com.swaglabs.pages.*;
+import com.swaglabs.tests.extensions.WebDriverExtension;
+import com.swaglabs.utils.BrowserCheckpoint;
 import com.swaglabs.utils.WebDriverManager;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -14,29 +18,41 @@ import static org.junit.jupiter.api.Assertions.*;
  * Test cases for Swag Labs checkout process functionality
  * Authors: Omar Shahin, Hatem Mohamed
  */
+@ExtendWith(WebDriverExtension.class)
 public class CheckoutTests {
     
     private WebDriver driver; // Add WebDriver field declaration
-    private ProductsPage productsPage;
     private CartPage cartPage;
     private static final String TEST_PRODUCT = "Sauce Labs Backpack";
     
     @BeforeEach
-    public void setup() {
-        WebDriverManager.setupDriver();
-        WebDriverManager.navigateToBaseUrl();
-        driver = WebDriverManager.getDriver(); // Initialize the WebDriver
+    public void setup(WebDriver driver) {
+        this.driver = driver;
         
-        // Login, add a product to cart, and navigate to cart page
-        LoginPage loginPage = new LoginPage();
-        productsPage = loginPage.loginAs(LoginPage.STANDARD_USER, LoginPage.PASSWORD);
-        productsPage.clickAddToCartForProduct(TEST_PRODUCT);
-        cartPage = productsPage.goToCart();
+        // Start on the cart page with a product in the cart; the UI steps run once per worker
+        BrowserCheckpoint.restoreOrBuild("CheckoutTests.cart:" + TEST_PRODUCT, "/cart.html",
+                CheckoutTests::openCart);
+        cartPage = new CartPage();
     }
     
-    @AfterEach
-    public void tearDown() {
-        WebDriverManager.quitDriver();
+    /**
+     * Log in, add the test product and open the cart
+     */
+    private static CartPage openCart() {
+        return new LoginPage().loginWithSession(UserType.STANDARD_USER)
+                .clickAddToCartForProduct(TEST_PRODUCT)
+                .goToCart();
+    }
+    
+    /**
+     * Open the checkout overview for the cart, filling in the customer information only once per worker
+     */
+    private CheckoutPage openCheckoutOverview() {
+        BrowserCheckpoint.restoreOrBuild("CheckoutTests.overview:" + TEST_PRODUCT, "/checkout-step-two.html", () ->
+                openCart().checkout()
+                        .fillCustomerInfo("John", "Doe", "12345")
+                        .clickContinue());
+        return new CheckoutPage();
     }
     
     /**
@@ -135,10 +151,8 @@ public class CheckoutTests {
                    driver.getPageSource().substring(0, Math.min(500, driver.getPageSource().length())));
             }
             
-            // Proceed to checkout and fill customer information
-            CheckoutPage checkoutPage = cartPage.checkout();
-            checkoutPage.fillCustomerInfo("John", "Doe", "12345")
-                       .clickContinue();
+            // Proceed to the checkout overview with customer information filled in
+            CheckoutPage checkoutPage = openCheckoutOverview();
             
             // Verify order summary information
             assertTrue(checkoutPage.isOnCheckoutStepTwo(), 
@@ -178,10 +192,8 @@ public class CheckoutTests {
     @Test
     @DisplayName("TC-021: Complete Purchase")
     public void testCompletePurchase() {
-        // Proceed to checkout, fill customer information, and continue to order summary
-        CheckoutPage checkoutPage = cartPage.checkout();
-        checkoutPage.fillCustomerInfo("John", "Doe", "12345")
-                   .clickContinue();
+        // Start on the order summary
+        CheckoutPage checkoutPage = openCheckoutOverview();
         
         // Complete purchase by clicking finish button
         checkoutPage.clickFinish();
@@ -202,11 +214,9 @@ public class CheckoutTests {
     @Test
     @DisplayName("TC-022: Navigate Back to Products")
     public void testNavigateBackToProducts() {
-        // Proceed to checkout, fill customer information, continue to order summary, and complete purchase
-        CheckoutPage checkoutPage = cartPage.checkout();
-        checkoutPage.fillCustomerInfo("John", "Doe", "12345")
-                   .clickContinue()
-                   .clickFinish();
+        // Start on the order summary and complete the purchase
+        CheckoutPage checkoutPage = openCheckoutOverview();
+        checkoutPage.clickFinish();
         
         // Click back home button
         ProductsPage redirectedPage = checkoutPage.clickBackHome();
@@ -0,0 +1,99 @@
+package com.swaglabs.tests;
+
+import com.swaglabs.enums.UserType;
+import com.swaglabs.pages.LoginPage;
+import com.swaglabs.pages.ProductLocators;
+import com.swaglabs.pages.ProductsPage;
+import com.swaglabs.utils.WebDriverManager;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.util.List;
+
+/**
+ * Micro-benchmark comparing the old ancestor-axis XPath product locators with the
+ * id-based CSS locators from ProductLocators
+ *
+ * Measures both sides of the cost: building the By in Java, and evaluating the selector
+ * in the browser (timed inside the page so WebDriver round-trips don't drown the result).
+ * Run with: mvn test-compile exec:java -Dexec.mainClass="com.swaglabs.tests.LocatorBenchmark" -Dexec.classpathScope=test
+ */
+public class LocatorBenchmark {
+    private static final int JAVA_ITERATIONS = 200_000;
+    private static final int BROWSER_ITERATIONS = 2_000;
+    private static final String XPATH_PATTERN =
+            "//div[text()='%s']/ancestor::div[@class='inventory_item']//button[contains(@id, 'add-to-cart')]";
+
+    // Evaluates arguments[0] (XPath) and arguments[1] (CSS) arguments[2] times each, returns total ms per kind
+    private static final String BROWSER_BENCHMARK_SCRIPT =
+            "var xpath = arguments[0], css = arguments[1], iterations = arguments[2];"
+            + "var start = performance.now();"
+            + "for (var i = 0; i < iterations; i++) {"
+            + "  document.evaluate(xpath, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + "}"
+            + "var xpathMs = performance.now() - start;"
+            + "start = performance.now();"
+            + "for (var j = 0; j < iterations; j++) {"
+            + "  document.querySelector(css);"
+            + "}"
+            + "return [xpathMs, performance.now() - start];";
+
+    public static void main(String[] args) {
+        System.out.println("===== Product Locator Benchmark =====");
+        benchmarkLocatorConstruction();
+
+        try {
+            WebDriverManager.setupDriver();
+            WebDriverManager.navigateToBaseUrl();
+            ProductsPage productsPage = new LoginPage().loginWithSession(UserType.STANDARD_USER);
+            benchmarkSelectorEvaluation(productsPage.getProductNames());
+        } finally {
+            WebDriverManager.quitDriver();
+        }
+    }
+
+    private static void benchmarkLocatorConstruction() {
+        String productName = "Sauce Labs Backpack";
+        int sink = 0;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < JAVA_ITERATIONS; i++) {
+            sink += By.xpath(String.format(XPATH_PATTERN, productName)).hashCode();
+        }
+        long xpathNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < JAVA_ITERATIONS; i++) {
+            sink += ProductLocators.addToCartButton(productName).hashCode();
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        System.out.println("\n[Locator construction, " + JAVA_ITERATIONS + " iterations]");
+        System.out.printf("String.format XPath: %.1f ns/op%n", (double) xpathNanos / JAVA_ITERATIONS);
+        System.out.printf("Cached CSS locator:  %.1f ns/op%n", (double) cachedNanos / JAVA_ITERATIONS);
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void benchmarkSelectorEvaluation(List<String> productNames) {
+        JavascriptExecutor js = (JavascriptExecutor) WebDriverManager.getDriver();
+        double totalXpath = 0;
+        double totalCss = 0;
+
+        System.out.println("\n[In-browser selector evaluation, " + BROWSER_ITERATIONS + " iterations per product]");
+        for (String productName : productNames) {
+            String xpath = String.format(XPATH_PATTERN, productName);
+            String css = "button[id='add-to-cart-" + ProductLocators.slug(productName) + "']";
+            List<Number> timings = (List<Number>) js.executeScript(
+                    BROWSER_BENCHMARK_SCRIPT, xpath, css, BROWSER_ITERATIONS);
+            double xpathMs = timings.get(0).doubleValue();
+            double cssMs = timings.get(1).doubleValue();
+            totalXpath += xpathMs;
+            totalCss += cssMs;
+            System.out.printf("%-40s XPath %7.2f ms | CSS %7.2f ms%n", productName, xpathMs, cssMs);
+        }
+
+        System.out.printf("Total: XPath %.2f ms, CSS %.2f ms (%.1fx faster)%n",
+                totalXpath, totalCss, totalCss > 0 ? totalXpath / totalCss : 0);
+    }
+}
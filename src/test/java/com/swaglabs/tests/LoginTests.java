@@ -2,8 +2,9 @@ package com.swaglabs.tests;
 
 import com.swaglabs.pages.LoginPage;
 import com.swaglabs.pages.ProductsPage;
-import com.swaglabs.utils.WebDriverManager;
+import com.swaglabs.tests.extensions.WebDriverExtension;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,20 +12,14 @@ import static org.junit.jupiter.api.Assertions.*;
  * Test cases for Swag Labs login functionality
  * Authors: Omar Shahin, Hatem Mohamed
  */
+@ExtendWith(WebDriverExtension.class)
 public class LoginTests {
     
     private LoginPage loginPage;
     
     @BeforeEach
-    public void setup() {
-        WebDriverManager.setupDriver();
-        WebDriverManager.navigateToBaseUrl();
-        loginPage = new LoginPage();
-    }
-    
-    @AfterEach
-    public void tearDown() {
-        WebDriverManager.quitDriver();
+    public void setup(LoginPage loginPage) {
+        this.loginPage = loginPage;
     }
     
     /**
@@ -1,10 +1,13 @@
 package com.swaglabs.tests;
 
+import com.swaglabs.enums.UserType;
 import com.swaglabs.pages.LoginPage;
 import com.swaglabs.pages.ProductDetailsPage;
 import com.swaglabs.pages.ProductsPage;
+import com.swaglabs.tests.extensions.WebDriverExtension;
 import com.swaglabs.utils.WebDriverManager;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -16,24 +19,15 @@ import static org.junit.jupiter.api.Assertions.*;
  * Test cases for Swag Labs product browsing functionality
  * Authors: Omar Shahin, Hatem Mohamed
  */
+@ExtendWith(WebDriverExtension.class)
 public class ProductTests {
     
     private ProductsPage productsPage;
     private static final String TEST_PRODUCT = "Sauce Labs Backpack";
     
     @BeforeEach
-    public void setup() {
-        WebDriverManager.setupDriver();
-        WebDriverManager.navigateToBaseUrl();
-        
-        // Login and navigate to products page
-        LoginPage loginPage = new LoginPage();
-        productsPage = loginPage.loginAs(LoginPage.STANDARD_USER, LoginPage.PASSWORD);
-    }
-    
-    @AfterEach
-    public void tearDown() {
-        WebDriverManager.quitDriver();
+    public void setup(LoginPage loginPage) {
+        productsPage = loginPage.loginWithSession(UserType.STANDARD_USER);
     }
     
     /**
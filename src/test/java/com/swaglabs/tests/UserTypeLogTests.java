@@ -2,11 +2,14 @@ package com.swaglabs.tests;
 
 import com.swaglabs.enums.UserType;
 import com.swaglabs.utils.TestLogger;
+import com.swaglabs.tests.extensions.WebDriverExtension;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * Test class to run comprehensive tests for all user types with detailed logging
  */
+@ResourceLock(WebDriverExtension.TEST_LOGGER)
 public class UserTypeLogTests {
     
     private UserTypeTests userTypeTests;
@@ -0,0 +1,57 @@
+package com.swaglabs.tests.extensions;
+
+import com.swaglabs.pages.BasePage;
+import com.swaglabs.utils.WebDriverManager;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * JUnit 5 extension that gives every test its own WebDriver
+ * The driver is leased from the WebDriverManager pool for the worker thread running the test,
+ * so test classes can run concurrently without sharing a browser.
+ *
+ * Test and lifecycle methods can declare a WebDriver or any page object as a parameter;
+ * page objects are created on the worker thread and therefore bound to its driver.
+ */
+public class WebDriverExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    /**
+     * Resource lock key for tests that read or write TestLogger's shared results
+     */
+    public static final String TEST_LOGGER = "com.swaglabs.utils.TestLogger";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        WebDriverManager.setupDriver();
+        WebDriverManager.navigateToBaseUrl();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        WebDriverManager.quitDriver();
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+        return type == WebDriver.class || BasePage.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        Class<?> type = parameterContext.getParameter().getType();
+        if (type == WebDriver.class) {
+            return WebDriverManager.getDriver();
+        }
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new ParameterResolutionException("Could not create page object " + type.getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.swaglabs.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Window, threshold and half-open behaviour of CircuitBreaker; needs no browser
+ */
+public class CircuitBreakerTest {
+    private static final long LONG_OPEN_MILLIS = 60_000;
+
+    private static void succeed(CircuitBreaker breaker) {
+        breaker.recordSuccess(breaker.acquirePermission());
+    }
+
+    private static void fail(CircuitBreaker breaker) {
+        breaker.recordFailure(breaker.acquirePermission());
+    }
+
+    @Test
+    @DisplayName("Stays closed until the window holds the minimum number of calls")
+    public void testMinimumCalls() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 0.5, LONG_OPEN_MILLIS);
+        fail(breaker);
+        fail(breaker);
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, breaker.getOpenedCount());
+    }
+
+    @Test
+    @DisplayName("Opens once the failure rate reaches the threshold")
+    public void testFailureRateThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 0.5, LONG_OPEN_MILLIS);
+        succeed(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        fail(breaker);
+        assertEquals(0.25, breaker.getFailureRate());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // The oldest success slides out of the window: 2 of the last 4 calls failed
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Old failures slide out of the window")
+    public void testSlidingWindow() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, 3, 0.7, LONG_OPEN_MILLIS);
+        fail(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        succeed(breaker);
+        assertEquals(0.0, breaker.getFailureRate());
+
+        fail(breaker);
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        fail(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("Rejects calls while open")
+    public void testRejectsWhileOpen() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 1.0, LONG_OPEN_MILLIS);
+        fail(breaker);
+
+        assertThrows(CircuitBreaker.CircuitOpenException.class, breaker::acquirePermission);
+        assertThrows(CircuitBreaker.CircuitOpenException.class, breaker::acquirePermission);
+        assertEquals(2, breaker.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Half-open lets a single probe through and closes when it succeeds")
+    public void testHalfOpenProbeSucceeds() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 1.0, 0);
+        fail(breaker);
+
+        long probe = breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitBreaker.CircuitOpenException.class, breaker::acquirePermission);
+
+        breaker.recordSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Half-open opens again when the probe fails")
+    public void testHalfOpenProbeFails() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 1.0, 0);
+        fail(breaker);
+
+        breaker.recordFailure(breaker.acquirePermission());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenedCount());
+    }
+
+    @Test
+    @DisplayName("A call permitted while closed can't close a half-open breaker")
+    public void testLateSuccessIgnoredWhileHalfOpen() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 1.0, 0);
+        long slowCall = breaker.acquirePermission();
+        fail(breaker);
+
+        long probe = breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.recordSuccess(slowCall);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.recordFailure(probe);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    @DisplayName("A call permitted before the breaker opened doesn't count after it closes again")
+    public void testLateFailureIgnoredAfterRecovery() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 1.0, 0);
+        long slowCall = breaker.acquirePermission();
+        fail(breaker);
+        breaker.recordSuccess(breaker.acquirePermission());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.recordFailure(slowCall);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0.0, breaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Rejects invalid windows and thresholds")
+    public void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker("test", 0, 1, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker("test", 2, 3, 0.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker("test", 2, 2, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreaker("test", 2, 2, 1.5, 0));
+    }
+}
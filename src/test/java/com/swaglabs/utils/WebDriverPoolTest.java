@@ -0,0 +1,276 @@
+package com.swaglabs.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Slot accounting, reuse, liveness checks and prewarming of WebDriverPool; uses stub drivers, no browser
+ */
+public class WebDriverPoolTest {
+
+    /**
+     * Stand-in driver that only answers getWindowHandle() and quit()
+     */
+    private static class StubDriver {
+        private final AtomicInteger alive;
+        private volatile boolean dead;
+        private volatile int quitCount;
+        private final WebDriver driver;
+
+        StubDriver(AtomicInteger alive) {
+            this.alive = alive;
+            alive.incrementAndGet();
+            this.driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                    new Class<?>[] {WebDriver.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getWindowHandle":
+                                if (dead) {
+                                    throw new WebDriverException("invalid session id");
+                                }
+                                return "window-1";
+                            case "quit":
+                                quitCount++;
+                                this.alive.decrementAndGet();
+                                return null;
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "equals":
+                                return proxy == args[0];
+                            case "toString":
+                                return "StubDriver@" + Integer.toHexString(System.identityHashCode(proxy));
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Factory recording every stub it creates
+     */
+    private static class StubFactory implements Supplier<WebDriver> {
+        private final AtomicInteger alive = new AtomicInteger();
+        private final List<StubDriver> created = new ArrayList<>();
+
+        @Override
+        public synchronized WebDriver get() {
+            StubDriver stub = new StubDriver(alive);
+            created.add(stub);
+            return stub.driver;
+        }
+
+        synchronized StubDriver stub(WebDriver driver) {
+            for (StubDriver stub : created) {
+                if (stub.driver == driver) {
+                    return stub;
+                }
+            }
+            throw new IllegalArgumentException("Not created by this factory: " + driver);
+        }
+    }
+
+    private static void awaitIdle(WebDriverPool pool, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pool.getIdleCount() < count) {
+            assertTrue(System.nanoTime() < deadline, "Prewarmed drivers didn't arrive in time");
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Hands out at most maxSize drivers and times out when all are leased")
+    public void testMaxSizeAndLeaseTimeout() {
+        WebDriverPool pool = new WebDriverPool(1, 0, new StubFactory());
+        pool.lease();
+
+        assertEquals(0, pool.getAvailableSlots());
+        assertThrows(RuntimeException.class, pool::lease);
+        assertEquals(0, pool.getAvailableSlots());
+    }
+
+    @Test
+    @DisplayName("Reuses a released driver instead of launching another")
+    public void testReleaseAndReuse() {
+        StubFactory factory = new StubFactory();
+        WebDriverPool pool = new WebDriverPool(1, 0, factory);
+        WebDriver first = pool.lease();
+        pool.release(first);
+
+        WebDriver second = pool.lease();
+        assertSame(first, second);
+        assertEquals(2, pool.getLeaseCount(second));
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(1, pool.getLaunchCount());
+    }
+
+    @Test
+    @DisplayName("Discarding a driver quits it and frees its slot")
+    public void testDiscardFreesSlot() {
+        StubFactory factory = new StubFactory();
+        WebDriverPool pool = new WebDriverPool(1, 0, factory);
+        WebDriver first = pool.lease();
+        pool.discard(first);
+
+        assertEquals(1, factory.stub(first).quitCount);
+        WebDriver second = pool.lease();
+        assertNotSame(first, second);
+        assertEquals(2, pool.getLaunchCount());
+        assertEquals(1, factory.alive.get());
+    }
+
+    @Test
+    @DisplayName("An idle driver that stopped responding is quit and replaced")
+    public void testDeadIdleDriverReplaced() {
+        StubFactory factory = new StubFactory();
+        WebDriverPool pool = new WebDriverPool(1, 0, factory);
+        WebDriver first = pool.lease();
+        pool.release(first);
+        factory.stub(first).dead = true;
+
+        WebDriver second = pool.lease();
+        assertNotSame(first, second);
+        assertEquals(1, factory.stub(first).quitCount);
+        assertEquals(0, pool.getLeaseCount(first));
+        assertEquals(1, factory.alive.get());
+    }
+
+    @Test
+    @DisplayName("A factory throwing an Error doesn't leak a slot")
+    public void testFactoryErrorReleasesSlot() {
+        StubFactory stubs = new StubFactory();
+        AtomicInteger calls = new AtomicInteger();
+        WebDriverPool pool = new WebDriverPool(1, 0, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new NoClassDefFoundError("org/openqa/selenium/chrome/ChromeDriver");
+            }
+            return stubs.get();
+        });
+
+        assertThrows(NoClassDefFoundError.class, pool::lease);
+        assertEquals(1, pool.getAvailableSlots());
+        pool.lease();
+        assertEquals(1, pool.getLaunchCount());
+    }
+
+    @Test
+    @DisplayName("Prewarming launches drivers in the background and lease() reuses them")
+    public void testPrewarm() throws InterruptedException {
+        StubFactory factory = new StubFactory();
+        WebDriverPool pool = new WebDriverPool(2, 2, 5, factory);
+        awaitIdle(pool, 2);
+
+        pool.lease();
+        assertEquals(1, pool.getHitCount());
+        assertEquals(0, pool.getMissCount());
+        // Every slot is taken, so no further launch is started
+        assertEquals(2, pool.getLaunchCount());
+
+        pool.shutdown();
+        assertEquals(1, factory.alive.get());
+    }
+
+    @Test
+    @DisplayName("A prewarmed driver that died before it was leased is replaced")
+    public void testDeadPrewarmedDriverReplaced() throws InterruptedException {
+        StubFactory factory = new StubFactory();
+        WebDriverPool pool = new WebDriverPool(1, 1, 5, factory);
+        awaitIdle(pool, 1);
+        WebDriver prewarmed = factory.created.get(0).driver;
+        factory.stub(prewarmed).dead = true;
+
+        WebDriver leased = pool.lease();
+        assertNotSame(prewarmed, leased);
+        assertEquals(1, factory.stub(prewarmed).quitCount);
+        assertEquals(1, factory.alive.get());
+    }
+
+    @Test
+    @DisplayName("A dead driver from a launch still in flight is replaced by the waiting lease")
+    public void testDeadBackgroundLaunchReplaced() throws Exception {
+        StubFactory stubs = new StubFactory();
+        CountDownLatch launchMayFinish = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        WebDriverPool pool = new WebDriverPool(1, 1, 5, () -> {
+            WebDriver driver = stubs.get();
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    launchMayFinish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                stubs.stub(driver).dead = true;
+            }
+            return driver;
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<WebDriver> lease = executor.submit(pool::lease);
+            Thread.sleep(100);
+            launchMayFinish.countDown();
+
+            WebDriver leased = lease.get(5, TimeUnit.SECONDS);
+            assertNotSame(stubs.created.get(0).driver, leased);
+            assertEquals(1, stubs.created.get(0).quitCount);
+            assertEquals(2, pool.getLaunchCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Concurrent leases never run more than maxSize drivers at once")
+    public void testConcurrentLeasesStayWithinMaxSize() throws Exception {
+        StubFactory factory = new StubFactory();
+        AtomicInteger maxAlive = new AtomicInteger();
+        WebDriverPool pool = new WebDriverPool(3, 1, 10, factory);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < 8; worker++) {
+                workers.add(executor.submit(() -> {
+                    for (int round = 0; round < 50; round++) {
+                        WebDriver driver = pool.lease();
+                        maxAlive.accumulateAndGet(factory.alive.get(), Math::max);
+                        if (round % 5 == 0) {
+                            pool.discard(driver);
+                        } else {
+                            pool.release(driver);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxAlive.get() <= 3, "At most 3 drivers should be alive, saw " + maxAlive.get());
+        assertEquals(3, pool.getAvailableSlots());
+        pool.shutdown();
+    }
+}